@@ -0,0 +1,101 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures loading and saving the address book file, which happen at startup and after every command, in each
+ * storage format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressBookStorageBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    private int size;
+
+    @Param({"json", "compactJson", "binary"})
+    private String format;
+
+    private Path tempDir;
+    private AddressBook addressBook;
+    private FileAddressBookStorage readStorage;
+    private FileAddressBookStorage writeStorage;
+
+    /**
+     * Writes an address book of {@code size} candidates for the read benchmark to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("recruitintel-jmh");
+        addressBook = BenchmarkData.generateAddressBook(size);
+        readStorage = createStorage(tempDir.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+        writeStorage = createStorage(tempDir.resolve("write.json"));
+    }
+
+    private FileAddressBookStorage createStorage(Path jsonFilePath) {
+        switch (format) {
+        case "json":
+            return new JsonAddressBookStorage(jsonFilePath, true);
+        case "compactJson":
+            return new JsonAddressBookStorage(jsonFilePath, false);
+        case "binary":
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath),
+                    jsonFilePath);
+        default:
+            throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+
+    /**
+     * Deletes the files written by this benchmark, including backups.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        writeStorage.saveAddressBook(addressBook);
+    }
+}
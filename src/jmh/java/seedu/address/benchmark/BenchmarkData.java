@@ -0,0 +1,39 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds synthetic candidates for the benchmarks.
+ * The same size always produces the same candidates, so results are comparable across runs.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = SyntheticDataGenerator.DEFAULT_SEED;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code size} distinct candidates generated from {@link #SEED}.
+     */
+    public static List<Person> generatePersons(int size) {
+        return new SyntheticDataGenerator(SEED).generatePersons(size);
+    }
+
+    /**
+     * Returns an address book holding {@code size} candidates generated from {@link #SEED}.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        return new SyntheticDataGenerator(SEED).generateAddressBook(size);
+    }
+
+    /**
+     * Returns a candidate that is not a duplicate of any of the first {@code size} generated candidates.
+     */
+    public static Person generateAbsentPerson(int size) {
+        return new SyntheticDataGenerator(SEED).generatePerson(size);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelManager.NoUndoableStateException;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures recording, committing and undoing a single edit, which is what every undoable command pays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    private int size;
+
+    private ModelManager modelManager;
+    private Person target;
+    private Person edited;
+
+    /**
+     * Creates a model holding {@code size} candidates.
+     */
+    @Setup
+    public void setUp() {
+        modelManager = new ModelManager(BenchmarkData.generateAddressBook(size), new UserPrefs());
+        target = modelManager.getAddressBook().getPersonList().get(size / 2);
+        edited = new Person(target.getName(), target.getPhone(), target.getEmail(), target.getAddress(),
+                new JobPosition("Benchmark Engineer"), target.getTeam(), target.getTags());
+    }
+
+    /**
+     * Edits a candidate, commits the edit and undoes it, leaving the model as it was.
+     */
+    @Benchmark
+    public void commitThenUndo() throws NoUndoableStateException {
+        modelManager.setPerson(target, edited);
+        modelManager.commit();
+        modelManager.undo();
+    }
+}
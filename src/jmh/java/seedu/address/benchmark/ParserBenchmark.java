@@ -0,0 +1,94 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the cost of turning a line of user input into a {@code Command}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGS = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com"
+            + " a/Blk 30 Geylang Street 29, #06-40 j/Software Engineer tm/Engineering t/python t/experienced";
+    /** The arguments of an {@code add} command with 100 tags, for checking that tokenizing scales linearly. */
+    private static final String ADD_ARGS_MANY_TAGS = ADD_ARGS
+            + IntStream.range(0, 100).mapToObj(i -> " t/tag" + i).collect(Collectors.joining());
+    private static final ArgumentTokenizer ADD_TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE,
+            PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_JOB_POSITION, PREFIX_TEAM, PREFIX_TAG);
+
+    @Param({
+        "add" + ADD_ARGS,
+        "classify t/mobile t/experienced j/Frontend Developer tm/TikTok Live",
+        "find Alex Bernice Charlotte",
+        "delete 42",
+        "list"
+    })
+    private String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    /**
+     * Parses a full command, including the command word lookup and argument validation.
+     */
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command, which uses every prefix, building the tokenizer each time.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_ARGS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_JOB_POSITION, PREFIX_TEAM, PREFIX_TAG);
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command with a shared tokenizer, as the parsers do.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeShared() {
+        return ADD_TOKENIZER.split(ADD_ARGS);
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command with 100 tags with a shared tokenizer.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeManyTags() {
+        return ADD_TOKENIZER.split(ADD_ARGS_MANY_TAGS);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.JobPositionContainsKeywordsPredicate;
+import seedu.address.model.person.MatchesAllPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsContainsKeywordsPredicate;
+import seedu.address.model.person.TeamContainsKeywordsPredicate;
+
+/**
+ * Measures the predicates behind {@code find} and {@code classify}, both as a plain scan over every candidate and
+ * through {@code ModelManager}, which may answer them from its indexes.
+ * Run with {@code -prof gc} to see how much each scan allocates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    private int size;
+
+    private List<Person> persons;
+    private ModelManager modelManager;
+
+    private final NameContainsKeywordsPredicate namePredicate =
+            new NameContainsKeywordsPredicate(List.of("alex", "Wei"));
+    private final TagsContainsKeywordsPredicate tagsPredicate =
+            new TagsContainsKeywordsPredicate(List.of("python"));
+    private final TeamContainsKeywordsPredicate teamPredicate =
+            new TeamContainsKeywordsPredicate(List.of("development"));
+    private final JobPositionContainsKeywordsPredicate jobPositionPredicate =
+            new JobPositionContainsKeywordsPredicate(List.of("engineer"));
+    private final MatchesAllPredicate classifyPredicate =
+            new MatchesAllPredicate(List.of(tagsPredicate, teamPredicate, jobPositionPredicate));
+
+    /**
+     * Generates {@code size} candidates and a model holding them.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.generatePersons(size);
+        modelManager = new ModelManager(BenchmarkData.generateAddressBook(size), new UserPrefs());
+    }
+
+    @Benchmark
+    public int scanName() {
+        return count(namePredicate);
+    }
+
+    @Benchmark
+    public int scanTags() {
+        return count(tagsPredicate);
+    }
+
+    @Benchmark
+    public int scanTeam() {
+        return count(teamPredicate);
+    }
+
+    @Benchmark
+    public int scanJobPosition() {
+        return count(jobPositionPredicate);
+    }
+
+    @Benchmark
+    public int scanMatchesAll() {
+        return count(classifyPredicate);
+    }
+
+    /**
+     * Filters the model by a {@code classify} predicate, then shows every candidate again.
+     */
+    @Benchmark
+    public int classifyThroughModel() {
+        modelManager.updateFilteredPersonList(classifyPredicate);
+        int shown = modelManager.getFilteredPersonList().size();
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return shown;
+    }
+
+    private int count(Predicate<Person> predicate) {
+        int matches = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (predicate.test(persons.get(i))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures the identity checks and point updates of {@code UniquePersonList}, which back every add and edit.
+ * Mutating benchmarks undo their own change so that the list keeps its size across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person present;
+    private Person absent;
+    private Person edited;
+
+    /**
+     * Fills the list with {@code size} candidates.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.generatePersons(size);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        present = persons.get(size / 2);
+        absent = BenchmarkData.generateAbsentPerson(size);
+        edited = new Person(present.getName(), present.getPhone(), present.getEmail(), present.getAddress(),
+                new JobPosition("Benchmark Engineer"), present.getTeam(), present.getTags());
+    }
+
+    /**
+     * Checks for a candidate that is in the list.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return uniquePersonList.contains(present);
+    }
+
+    /**
+     * Checks for a candidate that is not in the list.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniquePersonList.contains(absent);
+    }
+
+    /**
+     * Adds a candidate to the end of the list, then removes it again.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        uniquePersonList.add(absent);
+        uniquePersonList.remove(absent);
+    }
+
+    /**
+     * Replaces a candidate in the middle of the list with an edited copy, then restores it.
+     */
+    @Benchmark
+    public void setPersonThenRestore() {
+        uniquePersonList.setPerson(present, edited);
+        uniquePersonList.setPerson(edited, present);
+    }
+
+    /**
+     * Replaces the whole list, as loading an address book does.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList setPersons() {
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.setPersons(persons);
+        return replacement;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StartTime;
+import seedu.address.model.person.Team;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures validating the fields of candidates, which every candidate loaded from the data file goes through.
+ * {@code AddressBookStorageBenchmark#read} measures the whole load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.generatePersons(SIZE);
+    }
+
+    /**
+     * Validates every field of {@value #SIZE} candidates, returning the number of valid fields.
+     */
+    @Benchmark
+    public int validateFields() {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += Name.isValidName(person.getName().fullName) ? 1 : 0;
+            validCount += Phone.isValidPhone(person.getPhone().value) ? 1 : 0;
+            validCount += Email.isValidEmail(person.getEmail().value) ? 1 : 0;
+            validCount += Address.isValidAddress(person.getAddress().value) ? 1 : 0;
+            validCount += JobPosition.isValidJobPosition(person.getJobPosition().value) ? 1 : 0;
+            validCount += Team.isValidTeam(person.getTeam().value) ? 1 : 0;
+            validCount += Notes.isValidNotes(person.getNotes().value) ? 1 : 0;
+            validCount += StartTime.isValidStartTime(person.getStartTime().value) ? 1 : 0;
+            for (Tag tag : person.getTags()) {
+                validCount += Tag.isValidTagName(tag.tagName) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+}
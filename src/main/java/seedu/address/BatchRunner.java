@@ -0,0 +1,207 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Command line entry point that executes commands from a file without starting the GUI.
+ *
+ * Usage: {@code BatchRunner [--save-every N] [FILE]}. Commands are read one per line from FILE, or from standard
+ * input if FILE is absent or {@code -}. Blank lines and lines starting with {@code #} are skipped. The address book
+ * configured in the user preferences is changed, and saved once at the end, or also after every N commands.
+ * Exits with a non-zero status if the address book could not be loaded or saved at the end, or if any command
+ * failed.
+ */
+public class BatchRunner {
+
+    public static final String MESSAGE_USAGE = "Usage: BatchRunner [--save-every N] [FILE]\n"
+            + "Executes the commands in FILE, one per line, or from standard input if FILE is absent or -.\n"
+            + "Changes are saved at the end, and also after every N commands if --save-every is given.";
+    public static final String MESSAGE_COMMAND_SUCCESS = "[%1$d] OK: %2$s";
+    public static final String MESSAGE_COMMAND_FAILURE = "[%1$d] ERROR: %2$s";
+    public static final String MESSAGE_SAVE_FAILURE = "Could not save the address book: %1$s";
+    public static final String MESSAGE_SUMMARY = "%1$d command(s), %2$d failed, in %3$d ms (%4$.1f commands/s)";
+
+    private static final String OPTION_SAVE_EVERY = "--save-every";
+    private static final String STANDARD_INPUT = "-";
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final int saveInterval;
+    /** The failure reported by the save in progress, or null if there is none. */
+    private volatile String saveFailure;
+
+    /**
+     * Constructs a {@code BatchRunner} that executes commands through {@code logic}, saving after every
+     * {@code saveInterval} commands, or only at the end if {@code saveInterval} is 0.
+     * {@code logic} should not save after each command by itself.
+     */
+    public BatchRunner(Logic logic, int saveInterval) {
+        requireNonNull(logic);
+        checkArgument(saveInterval >= 0, "Save interval must not be negative.");
+        this.logic = logic;
+        this.saveInterval = saveInterval;
+        logic.setSaveFailureHandler(message -> saveFailure = message);
+    }
+
+    /**
+     * Executes every command read from {@code in} until its end or an exit command, then saves the address book.
+     * The result of each command, and a summary of all of them, is printed to {@code out}.
+     *
+     * Every failed save is reported, but only the last one decides whether the address book was saved, as each save
+     * writes every change made so far.
+     *
+     * @return true if every command succeeded and the address book was saved.
+     * @throws IOException if {@code in} could not be read. Commands executed before then are saved.
+     */
+    public boolean run(BufferedReader in, PrintStream out) throws IOException {
+        requireNonNull(in);
+        requireNonNull(out);
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        boolean isSaved = false;
+
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                boolean isExit = false;
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(String.format(MESSAGE_COMMAND_SUCCESS, commandCount, result.getFeedbackToUser()));
+                    isExit = result.isExit();
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    out.println(String.format(MESSAGE_COMMAND_FAILURE, commandCount, e.getMessage()));
+                } catch (RuntimeException e) {
+                    // A bug in one command should not stop the others, nor lose the changes made so far
+                    logger.warning("Unexpected error executing " + commandText + ": " + StringUtil.getDetails(e));
+                    failureCount++;
+                    out.println(String.format(MESSAGE_COMMAND_FAILURE, commandCount, e));
+                }
+
+                if (isExit) {
+                    break;
+                }
+                if (saveInterval > 0 && commandCount % saveInterval == 0) {
+                    save(out);
+                }
+            }
+        } finally {
+            isSaved = save(out);
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, failureCount, elapsedNanos / 1_000_000,
+                commandCount * 1e9 / Math.max(elapsedNanos, 1)));
+        return failureCount == 0 && isSaved;
+    }
+
+    /**
+     * Saves the address book, printing the failure to {@code out} if it could not be saved.
+     *
+     * @return true if the address book was saved.
+     */
+    private boolean save(PrintStream out) {
+        saveFailure = null;
+        logic.save();
+        String failure = saveFailure;
+        if (failure != null) {
+            out.println(String.format(MESSAGE_SAVE_FAILURE, failure));
+        }
+        return failure == null;
+    }
+
+    public static void main(String[] args) {
+        int saveInterval = 0;
+        String inputPath = STANDARD_INPUT;
+        try {
+            int i = 0;
+            if (args.length > 0 && args[0].equals(OPTION_SAVE_EVERY)) {
+                checkArgument(args.length > 1);
+                saveInterval = Integer.parseInt(args[1]);
+                checkArgument(saveInterval > 0);
+                i = 2;
+            }
+            checkArgument(args.length - i <= 1);
+            if (i < args.length) {
+                inputPath = args[i];
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        boolean isSuccessful;
+        try {
+            isSuccessful = run(inputPath, saveInterval);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not run commands: " + e.getMessage());
+            isSuccessful = false;
+        }
+        System.exit(isSuccessful ? 0 : 1);
+    }
+
+    /**
+     * Loads the configured address book and executes the commands in the file at {@code inputPath} on it.
+     * Unlike the GUI, an address book or preferences file that cannot be loaded stops the run instead of being
+     * replaced, since nobody is there to notice before it is overwritten.
+     */
+    private static boolean run(String inputPath, int saveInterval) throws DataLoadingException, IOException {
+        Config config = ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElseGet(Config::new);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        Storage storage = new StorageManager(MainApp.initAddressBookStorage(userPrefs), userPrefsStorage);
+
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        LogicManager logic = new LogicManager(new ModelManager(addressBook.orElseGet(AddressBook::new), userPrefs),
+                storage, false);
+
+        try (BufferedReader in = inputPath.equals(STANDARD_INPUT)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(inputPath))) {
+            return new BatchRunner(logic, saveInterval).run(in, System.out);
+        } finally {
+            logic.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Command line entry point that converts an address book file between the JSON and binary storage formats.
+ *
+ * Usage: {@code DataConverter SOURCE TARGET}. Files ending in {@code .bin} are in the binary format, and all other
+ * files in the JSON format.
+ */
+public class DataConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: DataConverter SOURCE TARGET\n"
+            + "Converts the address book in SOURCE to the format of TARGET. Files ending in "
+            + BinaryAddressBookStorage.FILE_EXTENSION + " are binary, all others JSON.";
+
+    private static final Logger logger = LogsCenter.getLogger(DataConverter.class);
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path sourcePath = Paths.get(args[0]);
+        Path targetPath = Paths.get(args[1]);
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = createStorage(sourcePath).readAddressBook();
+            if (addressBook.isEmpty()) {
+                System.err.println("Could not convert address book: " + sourcePath + " does not exist.");
+                System.exit(1);
+                return;
+            }
+            createStorage(targetPath).saveAddressBook(addressBook.get());
+            logger.info("Converted " + addressBook.get().getPersonList().size() + " candidates from " + sourcePath
+                    + " to " + targetPath);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert address book: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static FileAddressBookStorage createStorage(Path filePath) {
+        if (filePath.getFileName().toString().endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            // Never imports, as the import file does not exist
+            return new BinaryAddressBookStorage(filePath, filePath);
+        }
+        return new JsonAddressBookStorage(filePath);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Command line entry point that writes a synthetic address book, for reproducing large data volumes locally.
+ *
+ * Usage: {@code DataGenerator COUNT [SEED] [FILE]}. The file defaults to the address book file of a fresh
+ * installation, so starting the app afterwards loads the generated candidates.
+ */
+public class DataGenerator {
+
+    public static final String MESSAGE_USAGE = "Usage: DataGenerator COUNT [SEED] [FILE]\n"
+            + "Writes COUNT synthetic candidates generated from SEED (default: "
+            + SyntheticDataGenerator.DEFAULT_SEED + ") to FILE (default: " + new UserPrefs().getAddressBookFilePath()
+            + ").";
+
+    private static final Logger logger = LogsCenter.getLogger(DataGenerator.class);
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        int count;
+        long seed;
+        try {
+            count = Integer.parseInt(args[0]);
+            seed = args.length > 1 ? Long.parseLong(args[1]) : SyntheticDataGenerator.DEFAULT_SEED;
+        } catch (NumberFormatException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+        Path filePath = args.length > 2 ? Paths.get(args[2]) : new UserPrefs().getAddressBookFilePath();
+
+        try {
+            AddressBook addressBook = new SyntheticDataGenerator(seed).generateAddressBook(count);
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            logger.info("Wrote " + count + " synthetic candidates to " + filePath);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Could not generate address book: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
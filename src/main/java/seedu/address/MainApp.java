@@ -23,6 +23,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -57,7 +59,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +69,27 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the address book storage for the storage format in {@code userPrefs}.
+     * Plain JSON storage is used if the format is not recognised.
+     */
+    static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        boolean isPrettyPrinted = userPrefs.isAddressBookPrettyPrinted();
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case UserPrefs.ADDRESS_BOOK_FORMAT_JOURNAL:
+            return new JournaledAddressBookStorage(filePath, isPrettyPrinted);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath), filePath);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_JSON:
+            return new JsonAddressBookStorage(filePath, isPrettyPrinted);
+        default:
+            logger.warning("Unknown storage format " + userPrefs.getAddressBookStorageFormat()
+                    + ". Using " + UserPrefs.ADDRESS_BOOK_FORMAT_JSON + " instead.");
+            return new JsonAddressBookStorage(filePath, isPrettyPrinted);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s RecruitIntel and {@code userPrefs}. <br>
      * The data from the sample RecruitIntel will be used instead if {@code storage}'s RecruitIntel is not found,
@@ -177,6 +200,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping RecruitIntel ] =============================");
+        logic.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,179 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Represents a selection of items in a displayed list, either by their indexes or as every item in the list.
+ *
+ * Indexes are held as sorted ranges, so that selecting {@code 1-5000} costs as little as selecting a single index,
+ * and an index selected more than once is only selected once.
+ */
+public class IndexSelection {
+
+    private static final IndexSelection ALL = new IndexSelection(null, null);
+
+    /** Zero-based first index of each range, ascending, or null if every item is selected. */
+    private final int[] firsts;
+    /** Zero-based last index of each range, inclusive. Ranges neither overlap nor touch. */
+    private final int[] lasts;
+
+    private IndexSelection(int[] firsts, int[] lasts) {
+        this.firsts = firsts;
+        this.lasts = lasts;
+    }
+
+    /**
+     * Returns a selection of every item in the list.
+     */
+    public static IndexSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a selection of the single item at {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        return range(index, index);
+    }
+
+    /**
+     * Returns a selection of the items from {@code first} to {@code last}, both inclusive.
+     *
+     * @throws IllegalArgumentException if {@code last} comes before {@code first}.
+     */
+    public static IndexSelection range(Index first, Index last) {
+        requireAllNonNull(first, last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("Last index of a range cannot come before its first index");
+        }
+        return new IndexSelection(new int[] {first.getZeroBased()}, new int[] {last.getZeroBased()});
+    }
+
+    /**
+     * Returns a selection of the items selected by any of {@code selections}.
+     *
+     * @throws IllegalArgumentException if {@code selections} is empty.
+     */
+    public static IndexSelection union(List<IndexSelection> selections) {
+        requireAllNonNull(selections);
+        if (selections.isEmpty()) {
+            throw new IllegalArgumentException("Selections cannot be empty");
+        }
+        if (selections.stream().anyMatch(IndexSelection::isAll)) {
+            return ALL;
+        }
+
+        List<int[]> ranges = new ArrayList<>();
+        for (IndexSelection selection : selections) {
+            for (int i = 0; i < selection.firsts.length; i++) {
+                ranges.add(new int[] {selection.firsts[i], selection.lasts[i]});
+            }
+        }
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+
+        int[] firsts = new int[ranges.size()];
+        int[] lasts = new int[ranges.size()];
+        int count = 0;
+        for (int[] range : ranges) {
+            if (count > 0 && range[0] <= lasts[count - 1] + 1) {
+                lasts[count - 1] = Math.max(lasts[count - 1], range[1]);
+            } else {
+                firsts[count] = range[0];
+                lasts[count] = range[1];
+                count++;
+            }
+        }
+        return new IndexSelection(Arrays.copyOf(firsts, count), Arrays.copyOf(lasts, count));
+    }
+
+    /**
+     * Returns true if every item in the list is selected, however many there are.
+     */
+    public boolean isAll() {
+        return firsts == null;
+    }
+
+    /**
+     * Returns the index of the selected item if exactly one index is selected.
+     */
+    public Optional<Index> getSingleIndex() {
+        if (isAll() || firsts.length != 1 || firsts[0] != lasts[0]) {
+            return Optional.empty();
+        }
+        return Optional.of(Index.fromZeroBased(firsts[0]));
+    }
+
+    /**
+     * Returns true if every selected index is within a list of {@code size} items.
+     */
+    public boolean isWithin(int size) {
+        return isAll() || lasts[lasts.length - 1] < size;
+    }
+
+    /**
+     * Returns the selected items of {@code list}, in the order of the list.
+     * The returned list is a copy, so it stays the same if {@code list} later changes.
+     *
+     * @throws IndexOutOfBoundsException if a selected index is not within {@code list}.
+     */
+    public <T> List<T> select(List<T> list) {
+        requireNonNull(list);
+        if (isAll()) {
+            return new ArrayList<>(list);
+        }
+        if (!isWithin(list.size())) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        List<T> selected = new ArrayList<>();
+        for (int i = 0; i < firsts.length; i++) {
+            selected.addAll(list.subList(firsts[i], lasts[i] + 1));
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Arrays.equals(firsts, otherSelection.firsts) && Arrays.equals(lasts, otherSelection.lasts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(firsts) + Arrays.hashCode(lasts);
+    }
+
+    /**
+     * Returns the selected one-based indexes in the form they are entered in, e.g. {@code 1-50,72,90}.
+     */
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return "all";
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < firsts.length; i++) {
+            joiner.add(firsts[i] == lasts[i]
+                    ? String.valueOf(firsts[i] + 1)
+                    : (firsts[i] + 1) + "-" + (lasts[i] + 1));
+        }
+        return joiner.toString();
+    }
+}
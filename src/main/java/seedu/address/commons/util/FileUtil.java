@@ -1,16 +1,23 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -73,11 +80,96 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, as {@link #writeAtomically(Path, ContentWriter)} does.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, tempFile -> Files.write(tempFile, content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces the content of {@code file} with the content {@code writer} writes, such that a crash or a failed write
+     * leaves either the old or the new content in {@code file}, never a mix of both and never no file at all.
+     * The previous content is kept in the backup file, from which {@link #restoreFromBackup(Path)} can restore it.
+     * Creates the file and its missing parent directories if they do not exist yet.
+     *
+     * @param writer writes the new content to the temporary file it is given.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        writer.write(tempFile);
+        sync(tempFile);
+
+        // The file stays in place while it is backed up, so that it is only ever replaced, by a single atomic move
+        if (Files.exists(file)) {
+            backUp(file);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncParentDir(file);
+    }
+
+    /**
+     * Makes the backup of {@code file} a hard link to its current content, which the next atomic move of a new file
+     * into place leaves untouched. Falls back to copying the content on file systems without hard links.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupPath = getBackupPath(file);
+        Files.deleteIfExists(backupPath);
+        try {
+            Files.createLink(backupPath, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            sync(backupPath);
+        }
+    }
+
+    /**
+     * Returns the location of the backup that {@link #writeAtomically(Path, ContentWriter)} keeps of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Replaces {@code file}, which is missing or unreadable, with a copy of its backup. The backup is kept.
+     * Assumes the backup exists.
+     */
+    public static void restoreFromBackup(Path file) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        Files.copy(getBackupPath(file), tempFile, StandardCopyOption.REPLACE_EXISTING);
+        sync(tempFile);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncParentDir(file);
+    }
+
+    /**
+     * Forces the content of {@code file} to the disk.
+     */
+    private static void sync(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the renames in the parent directory of {@code file} to the disk, where the platform supports it.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, e.g. Windows, which makes renames durable by itself
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Path file) throws IOException;
     }
 
 }
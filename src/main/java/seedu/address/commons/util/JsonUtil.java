@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +12,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +44,9 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -51,6 +59,8 @@ public class JsonUtil {
     /**
      * Returns the JSON object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid JSON file.
+     * If the file is missing or unreadable but its backup from the previous save can be read, the file is restored
+     * from the backup.
      *
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize JSON file has to correspond to the structure in the class given here.
@@ -60,8 +70,13 @@ public class JsonUtil {
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
         requireNonNull(filePath);
 
+        Path backupPath = FileUtil.getBackupPath(filePath);
         if (!Files.exists(filePath)) {
-            return Optional.empty();
+            if (!Files.exists(backupPath)) {
+                return Optional.empty();
+            }
+            logger.warning("JSON file " + filePath + " is missing. Recovering it from " + backupPath);
+            return Optional.of(recoverFromBackup(filePath, classOfObjectToDeserialize, null));
         }
         logger.info("JSON file " + filePath + " found.");
 
@@ -71,12 +86,41 @@ public class JsonUtil {
             jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
-            throw new DataLoadingException(e);
+            if (!Files.exists(backupPath)) {
+                throw new DataLoadingException(e);
+            }
+            jsonFile = recoverFromBackup(filePath, classOfObjectToDeserialize, e);
         }
 
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the JSON object from the backup of {@code filePath}, and restores the file from the backup.
+     *
+     * @param cause the error reading {@code filePath}, or null if it is missing.
+     * @throws DataLoadingException if the backup cannot be read either.
+     */
+    private static <T> T recoverFromBackup(Path filePath, Class<T> classOfObjectToDeserialize, Exception cause)
+            throws DataLoadingException {
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        T jsonFile;
+        try {
+            jsonFile = deserializeObjectFromJsonFile(backupPath, classOfObjectToDeserialize);
+        } catch (IOException e) {
+            logger.warning("Error reading from backup file " + backupPath + ": " + e);
+            throw new DataLoadingException(cause == null ? e : cause);
+        }
+
+        try {
+            FileUtil.restoreFromBackup(filePath);
+            logger.info("Restored " + filePath + " from " + backupPath);
+        } catch (IOException e) {
+            logger.warning("Could not restore " + filePath + " from " + backupPath + ": " + e);
+        }
+        return jsonFile;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +136,54 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that streams the JSON data in {@code filePath} token by token, so that large files can be read
+     * without holding their whole content in memory. The caller is responsible for closing it.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Reads the JSON value starting at the current token of {@code parser} into an instance of a class,
+     * leaving {@code parser} at the last token of that value.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values read from the parser
+     */
+    public static <T> T fromJsonParser(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code out} as it is produced, so that large values can be written
+     * without first building their whole representation in memory. The caller is responsible for closing it, which
+     * also closes {@code out}.
+     *
+     * @param isPrettyPrinted whether the output is indented for readability.
+     * @throws IOException if the generator could not be created.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Writes {@code instance} as the next JSON value of {@code generator}.
+     * The generator is not flushed, so many values can be written through one buffer.
+     * @param <T> The generic type of the instance
+     */
+    public static <T> void toJsonGenerator(JsonGenerator generator, T instance) throws IOException {
+        streamingWriter.writeValue(generator, instance);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
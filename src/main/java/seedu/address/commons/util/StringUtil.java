@@ -5,7 +5,11 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +42,57 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the form of {@code text} that searches compare: Unicode-normalised (NFKC) and case-folded, so that
+     * e.g. "STRASSE" and "straße", or full-width and ASCII letters, have the same key.
+     * Returns {@code text} itself if it is already in that form.
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        String folded = normalized.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        return folded.equals(text) ? text : folded;
+    }
+
+    /**
+     * Returns the {@linkplain #toSearchKey(String) search keys} of {@code keywords}.
+     */
+    public static List<String> toSearchKeys(List<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream().map(StringUtil::toSearchKey).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns true if {@code searchKey} contains any of {@code keywordSearchKeys}.
+     * Both must already be {@linkplain #toSearchKey(String) search keys}; this allocates nothing.
+     */
+    public static boolean containsAnySearchKey(String searchKey, List<String> keywordSearchKeys) {
+        for (int i = 0; i < keywordSearchKeys.size(); i++) {
+            if (searchKey.contains(keywordSearchKeys.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every keyword in {@code keywords} contains some keyword in {@code broaderKeywords},
+     * ignoring case. For case-insensitive substring matching, whatever matches one of {@code keywords} then also
+     * matches one of {@code broaderKeywords}.
+     *   <br>examples:<pre>
+     *       isSubstringRefinementIgnoreCase(["Python"], ["pyth"]) == true
+     *       isSubstringRefinementIgnoreCase(["python", "java"], ["PYTHON"]) == false // "java" is broader
+     *       </pre>
+     */
+    public static boolean isSubstringRefinementIgnoreCase(List<String> keywords, List<String> broaderKeywords) {
+        requireNonNull(keywords);
+        requireNonNull(broaderKeywords);
+
+        List<String> broaderSearchKeys = toSearchKeys(broaderKeywords);
+        return keywords.stream().map(StringUtil::toSearchKey)
+                .allMatch(keyword -> containsAnySearchKey(keyword, broaderSearchKeys));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
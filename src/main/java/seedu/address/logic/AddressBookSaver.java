@@ -0,0 +1,114 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves snapshots of the address book to {@code Storage} on a background thread, so that the caller never waits for
+ * a write. Snapshots requested in quick succession are coalesced: each write starts a short delay after the first
+ * request it serves, and only the latest snapshot requested by then is written.
+ */
+class AddressBookSaver {
+
+    public static final long DEFAULT_COALESCE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final long coalesceDelayMillis;
+    private final Consumer<Exception> failureHandler;
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** The latest snapshot that has not been handed to a write yet. Guarded by {@code this}. */
+    private ReadOnlyAddressBook pendingSnapshot;
+    /** Whether a write that will pick up {@code pendingSnapshot} is already scheduled. Guarded by {@code this}. */
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a saver that writes to {@code storage} and reports failed writes to {@code failureHandler}, which is
+     * called on the background thread. Runtime exceptions from storage are reported too, so that no write fails
+     * silently.
+     */
+    AddressBookSaver(Storage storage, long coalesceDelayMillis, Consumer<Exception> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.coalesceDelayMillis = coalesceDelayMillis;
+        this.failureHandler = failureHandler;
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Requests that {@code snapshot} be written. The snapshot must not change afterwards.
+     * If a write is already scheduled but has not started, it writes {@code snapshot} instead of the earlier one.
+     */
+    void save(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        executor.schedule(this::writePendingSnapshot, coalesceDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending snapshot, if any, without waiting for the coalescing delay, and blocks until it and every
+     * earlier write have finished.
+     */
+    void flush() {
+        try {
+            executor.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Flushes the pending snapshot and stops the background thread. No snapshots can be saved afterwards.
+     */
+    void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            logger.fine("Saved address book with " + snapshot.getPersonList().size() + " candidates");
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save address book: " + e);
+            failureHandler.accept(e);
+        }
+    }
+}
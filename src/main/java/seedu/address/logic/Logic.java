@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -47,4 +48,21 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given a message for the user whenever saving the address book fails.
+     * Saving happens in the background, so the handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Saves any unsaved changes to the address book, waiting for them to be written or to fail.
+     * Failures are reported to the save failure handler.
+     */
+    void save();
+
+    /**
+     * Saves any unsaved changes to the address book, waiting for them to be written, and stops saving.
+     */
+    void close();
 }
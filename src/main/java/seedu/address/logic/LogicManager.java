@@ -1,10 +1,13 @@
 package seedu.address.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -30,16 +33,46 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver addressBookSaver;
+    private final boolean isSavedAfterEachCommand;
+
+    /** The version of the address book last handed to {@code addressBookSaver}. */
+    private long savedVersion;
+    /** Whether a save has failed since the address book was last handed to {@code addressBookSaver}. */
+    private volatile boolean hasSaveFailed;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AddressBookSaver.DEFAULT_COALESCE_DELAY_MILLIS, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes in the background after each command if
+     * {@code isSavedAfterEachCommand}, or else only when {@link #save()} or {@link #close()} is called.
+     */
+    public LogicManager(Model model, Storage storage, boolean isSavedAfterEachCommand) {
+        this(model, storage, AddressBookSaver.DEFAULT_COALESCE_DELAY_MILLIS, isSavedAfterEachCommand);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that waits {@code saveCoalesceDelayMillis} after a change before saving,
+     * so that later changes made within that time are saved by the same write.
+     */
+    LogicManager(Model model, Storage storage, long saveCoalesceDelayMillis) {
+        this(model, storage, saveCoalesceDelayMillis, true);
+    }
+
+    private LogicManager(Model model, Storage storage, long saveCoalesceDelayMillis,
+                         boolean isSavedAfterEachCommand) {
         this.model = model;
-        this.storage = storage;
+        this.isSavedAfterEachCommand = isSavedAfterEachCommand;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new AddressBookSaver(storage, saveCoalesceDelayMillis, this::handleSaveFailure);
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -50,17 +83,59 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (isSavedAfterEachCommand) {
+            saveAddressBookIfChanged();
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void close() {
+        saveAddressBookIfChanged();
+        addressBookSaver.close();
+    }
+
+    @Override
+    public void save() {
+        saveAddressBookIfChanged();
+        addressBookSaver.flush();
+    }
+
+    /**
+     * Hands a snapshot of the address book to the background saver if it has changed since the last one, or if
+     * saving the last one failed.
+     * Persons are immutable, so copying the list is enough for the snapshot to be unaffected by later changes.
+     */
+    private void saveAddressBookIfChanged() {
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion && !hasSaveFailed) {
+            return;
+        }
+        savedVersion = version;
+        hasSaveFailed = false;
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(model.getAddressBook().getPersonList()));
+        addressBookSaver.save(() -> persons);
+    }
+
+    /**
+     * Reports a failed save to the user. The next command saves the address book again, even if it is unchanged.
+     */
+    private void handleSaveFailure(Exception e) {
+        hasSaveFailed = true;
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -16,6 +16,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX =
             "The candidate index provided is out of bounds. Please provide a valid index.";
+    public static final String MESSAGE_NO_PERSONS_DISPLAYED = "There are no candidates in the displayed list.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d candidates listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
@@ -8,6 +8,7 @@ import java.util.function.Predicate;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.MatchesAllPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -45,10 +46,7 @@ public class ClassifyCommand extends Command {
         requireNonNull(model);
 
         // Combine all predicates with AND logic
-        Predicate<Person> combinedPredicate = person ->
-                predicates.stream().allMatch(pred -> pred.test(person));
-
-        model.updateFilteredPersonList(combinedPredicate);
+        model.updateFilteredPersonList(new MatchesAllPredicate(predicates));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
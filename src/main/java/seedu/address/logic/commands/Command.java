@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,20 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the candidates selected by {@code targets} in the displayed candidate list of {@code model}.
+     *
+     * @throws CommandException if any selected index is out of bounds, or if no candidate is displayed.
+     */
+    protected static List<Person> getSelectedPersons(Model model, IndexSelection targets) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (!targets.isWithin(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+        }
+        return targets.select(lastShownList);
+    }
+
 }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,7 +13,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a candidate identified using it's displayed index from the RecruitIntel.
+ * Deletes the candidates identified using their displayed indexes from the RecruitIntel.
  */
 public class DeleteCommand extends Command {
 
@@ -20,24 +21,34 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the candidates identified by the index number used in the displayed candidates list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, "
+            + "or \"all\" for every candidate displayed)\n"
+            + "Example: " + COMMAND_WORD + " 1-50,72,90";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Candidate: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d candidate(s)";
 
-    private final Index targetIndex;
+    private final IndexSelection targets;
 
     private Person deletedPerson = null;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexSelection.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the candidates selected by {@code targets}.
+     */
+    public DeleteCommand(IndexSelection targets) {
+        requireNonNull(targets);
+        this.targets = targets;
     }
 
     /**
      * Creates a DeleteCommand with a person.
      */
     public DeleteCommand(Person person) {
-        this.targetIndex = Index.fromZeroBased(0);
+        this(Index.fromZeroBased(0));
         this.deletedPerson = person;
     }
 
@@ -45,13 +56,15 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> personsToDelete = getSelectedPersons(model, targets);
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        if (personsToDelete.size() > 1) {
+            model.deletePersons(personsToDelete);
+            model.commit();
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Person personToDelete = personsToDelete.get(0);
         model.deletePerson(personToDelete);
         deletedPerson = personToDelete;
 
@@ -72,13 +85,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targets.equals(otherDeleteCommand.targets);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targets", targets)
                 .toString();
     }
 }
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds all the candidates read from a CSV or JSON file to RecruitIntel as a single change, which one undo reverts.
+ * Candidates that are invalid or already exist are left out and reported, without stopping the others.
+ * The file is read by {@code ImportCommandParser}, so that this command only works on the model.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all the candidates in a CSV or JSON file "
+            + "to RecruitIntel. Candidates that are invalid or already exist are skipped and reported.\n"
+            + "A CSV file starts with a header row naming its columns, out of: "
+            + "name, phone, email, address, jobPosition, team, tags, notes, startTime, duration\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/candidates.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d candidate(s) from %2$s.";
+    public static final String MESSAGE_NOTHING_IMPORTED = "No candidates were imported from %1$s.";
+    public static final String MESSAGE_REJECTED = "\n%1$d candidate(s) were skipped:\n%2$s";
+    public static final String MESSAGE_MORE_REJECTED = "\n... and %1$d more.";
+    public static final String MESSAGE_EXISTING_CANDIDATE =
+            "Candidate %1$s: A candidate with this email already exists.";
+
+    /** Skipped candidates reported beyond this number are only counted, to keep the result readable. */
+    static final int MAX_REPORTED_REJECTIONS = 50;
+
+    private final Path filePath;
+    private final List<Person> persons;
+    private final List<String> rejections;
+
+    /**
+     * Creates an ImportCommand to add {@code persons}, the valid candidates read from the file at {@code filePath}.
+     * {@code rejections} describes the candidates in the file that were left out as invalid, in the order of the file.
+     */
+    public ImportCommand(Path filePath, List<Person> persons, List<String> rejections) {
+        requireAllNonNull(filePath, persons, rejections);
+        this.filePath = filePath;
+        this.persons = List.copyOf(persons);
+        this.rejections = List.copyOf(rejections);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> toAdd = new ArrayList<>();
+        List<String> allRejections = new ArrayList<>(rejections);
+        for (Person person : persons) {
+            if (model.hasPerson(person)) {
+                allRejections.add(String.format(MESSAGE_EXISTING_CANDIDATE, person.getEmail()));
+            } else {
+                toAdd.add(person);
+            }
+        }
+
+        String rejectionsDescription = describeRejections(allRejections);
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_IMPORTED, filePath) + rejectionsDescription);
+        }
+
+        model.addPersons(toAdd);
+        model.commit();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath) + rejectionsDescription);
+    }
+
+    private static String describeRejections(List<String> rejections) {
+        if (rejections.isEmpty()) {
+            return "";
+        }
+        String reported = String.join("\n",
+                rejections.subList(0, Math.min(rejections.size(), MAX_REPORTED_REJECTIONS)));
+        String message = String.format(MESSAGE_REJECTED, rejections.size(), reported);
+        if (rejections.size() > MAX_REPORTED_REJECTIONS) {
+            message += String.format(MESSAGE_MORE_REJECTED, rejections.size() - MAX_REPORTED_REJECTIONS);
+        }
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && persons.equals(otherImportCommand.persons)
+                && rejections.equals(otherImportCommand.rejections);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("persons", persons)
+                .add("rejections", rejections)
+                .toString();
+    }
+}
@@ -3,10 +3,11 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Duration;
@@ -14,21 +15,24 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.StartTime;
 
 /**
- * Sets the interview time (start time + duration) for a candidate in RecruitIntel.
+ * Sets the interview time (start time + duration) for candidates in RecruitIntel.
  */
 public class InterviewCommand extends Command {
 
     public static final String COMMAND_WORD = "interview";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets interview time for the candidate identified "
-            + "by the index number used in the displayed candidate list.\n"
-            + "Parameters: INDEX (must be a positive integer) START_TIME (yyyy-MM-dd HH:mm) DURATION (multiple of 5)\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets interview time for the candidates identified "
+            + "by the index numbers used in the displayed candidate list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, "
+            + "or \"all\" for every candidate displayed) START_TIME (yyyy-MM-dd HH:mm) DURATION (multiple of 5)\n"
             + "Example: " + COMMAND_WORD + " 1 2025-04-01 14:00 30";
 
     public static final String MESSAGE_SET_INTERVIEW_SUCCESS = "Interview set for candidate #%1$d: "
             + "Start = %2$s, Duration = %3$d minutes";
+    public static final String MESSAGE_SET_INTERVIEWS_SUCCESS = "Interview set for %1$d candidate(s): "
+            + "Start = %2$s, Duration = %3$d minutes";
 
-    private final Index targetIndex;
+    private final IndexSelection targets;
     private StartTime startTime;
     private Duration duration;
 
@@ -42,11 +46,20 @@ public class InterviewCommand extends Command {
      * @param duration duration of the interview
      */
     public InterviewCommand(Index targetIndex, StartTime startTime, Duration duration) {
-        requireNonNull(targetIndex);
+        this(IndexSelection.of(targetIndex), startTime, duration);
+    }
+
+    /**
+     * @param targets candidates to set the interview for
+     * @param startTime start time of the interview
+     * @param duration duration of the interview
+     */
+    public InterviewCommand(IndexSelection targets, StartTime startTime, Duration duration) {
+        requireNonNull(targets);
         requireNonNull(startTime);
         requireNonNull(duration);
 
-        this.targetIndex = targetIndex;
+        this.targets = targets;
         this.startTime = startTime;
         this.duration = duration;
     }
@@ -54,41 +67,51 @@ public class InterviewCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToUpdate = getSelectedPersons(model, targets);
+
+        if (personsToUpdate.size() > 1) {
+            List<Person> updatedPersons = personsToUpdate.stream()
+                    .map(this::createPersonWithInterview)
+                    .collect(Collectors.toList());
+            model.setPersons(personsToUpdate, updatedPersons);
+        } else {
+            personToUpdate = personsToUpdate.get(0);
+            updatedPerson = createPersonWithInterview(personToUpdate);
+            model.setPerson(personToUpdate, updatedPerson);
         }
 
-        personToUpdate = lastShownList.get(targetIndex.getZeroBased());
-
-        // Construct updated person
-        updatedPerson = new Person(
-                personToUpdate.getName(),
-                personToUpdate.getPhone(),
-                personToUpdate.getEmail(),
-                personToUpdate.getAddress(),
-                personToUpdate.getJobPosition(),
-                personToUpdate.getTeam(),
-                personToUpdate.getTags(),
-                personToUpdate.getNotes(),
+        model.commit();
+
+        return new CommandResult(targets.getSingleIndex()
+                .map(index -> String.format(MESSAGE_SET_INTERVIEW_SUCCESS,
+                        index.getOneBased(), startTime.value, duration.getDurationInMinutes()))
+                .orElseGet(() -> String.format(MESSAGE_SET_INTERVIEWS_SUCCESS,
+                        personsToUpdate.size(), startTime.value, duration.getDurationInMinutes())));
+    }
+
+    /**
+     * Creates a new person with this interview time while preserving all other fields.
+     */
+    private Person createPersonWithInterview(Person basePerson) {
+        return new Person(
+                basePerson.getName(),
+                basePerson.getPhone(),
+                basePerson.getEmail(),
+                basePerson.getAddress(),
+                basePerson.getJobPosition(),
+                basePerson.getTeam(),
+                basePerson.getTags(),
+                basePerson.getNotes(),
                 startTime,
                 duration
         );
-
-        model.setPerson(personToUpdate, updatedPerson);
-
-        model.commit();
-
-        return new CommandResult(String.format(MESSAGE_SET_INTERVIEW_SUCCESS,
-                targetIndex.getOneBased(), startTime.value, duration.getDurationInMinutes()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof InterviewCommand
-                && targetIndex.equals(((InterviewCommand) other).targetIndex)
+                && targets.equals(((InterviewCommand) other).targets)
                 && startTime.equals(((InterviewCommand) other).startTime)
                 && duration.equals(((InterviewCommand) other).duration));
     }
@@ -96,7 +119,7 @@ public class InterviewCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targets", targets)
                 .add("startTime", startTime)
                 .add("duration", duration)
                 .toString();
@@ -3,30 +3,33 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Notes;
 import seedu.address.model.person.Person;
 
 /**
- * Adds interviewer notes to an existing candidate in RecruitIntel.
+ * Adds interviewer notes to existing candidates in RecruitIntel.
  */
 public class NotesCommand extends Command {
 
     public static final String COMMAND_WORD = "note";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds interviewer notes to the candidate identified "
-            + "by the index number used in the displayed candidate list.\n"
-            + "Parameters: INDEX (must be a positive integer) NOTE_TEXT (maximum 450 characters)\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds interviewer notes to the candidates identified "
+            + "by the index numbers used in the displayed candidate list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, "
+            + "or \"all\" for every candidate displayed) NOTE_TEXT (maximum 450 characters)\n"
             + "Example: " + COMMAND_WORD + " 1 Strong backend experience, but lacks iOS exposure.";
 
     public static final String MESSAGE_ADD_NOTES_SUCCESS = "Note added to candidate #%1$d: \"%2$s\"";
+    public static final String MESSAGE_ADD_NOTES_TO_PERSONS_SUCCESS = "Note added to %1$d candidate(s): \"%2$s\"";
 
-    private final Index targetIndex;
+    private final IndexSelection targets;
     private Notes notes;
     private Person targetPerson;
     private Notes lastNotes;
@@ -36,10 +39,18 @@ public class NotesCommand extends Command {
      * @param notes the notes to add to the candidate
      */
     public NotesCommand(Index targetIndex, Notes notes) {
-        requireNonNull(targetIndex);
+        this(IndexSelection.of(targetIndex), notes);
+    }
+
+    /**
+     * @param targets of the candidates in the filtered candidate list to add notes to
+     * @param notes the notes to add to each of the candidates
+     */
+    public NotesCommand(IndexSelection targets, Notes notes) {
+        requireNonNull(targets);
         requireNonNull(notes);
 
-        this.targetIndex = targetIndex;
+        this.targets = targets;
         this.notes = notes;
     }
 
@@ -64,23 +75,29 @@ public class NotesCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToAddNotesTo = getSelectedPersons(model, targets);
+
+        if (personsToAddNotesTo.size() > 1) {
+            List<Person> updatedPersons = personsToAddNotesTo.stream()
+                    .map(person -> createPersonWithNotes(person, notes))
+                    .collect(Collectors.toList());
+            model.setPersons(personsToAddNotesTo, updatedPersons);
+        } else {
+            Person personToAddNotesTo = personsToAddNotesTo.get(0);
+            targetPerson = personToAddNotesTo;
+            lastNotes = personToAddNotesTo.getNotes();
+
+            Person updatedPerson = createPersonWithNotes(personToAddNotesTo, notes);
+            model.setPerson(personToAddNotesTo, updatedPerson);
+            targetPerson = updatedPerson;
         }
 
-        Person personToAddNotesTo = lastShownList.get(targetIndex.getZeroBased());
-        targetPerson = personToAddNotesTo;
-        lastNotes = personToAddNotesTo.getNotes();
-
-        Person updatedPerson = createPersonWithNotes(personToAddNotesTo, notes);
-        model.setPerson(personToAddNotesTo, updatedPerson);
-        targetPerson = updatedPerson;
-
         model.commit();
 
-        return new CommandResult(String.format(MESSAGE_ADD_NOTES_SUCCESS, targetIndex.getOneBased(), notes.value));
+        return new CommandResult(targets.getSingleIndex()
+                .map(index -> String.format(MESSAGE_ADD_NOTES_SUCCESS, index.getOneBased(), notes.value))
+                .orElseGet(() -> String.format(MESSAGE_ADD_NOTES_TO_PERSONS_SUCCESS, personsToAddNotesTo.size(),
+                        notes.value)));
     }
 
     @Override
@@ -95,14 +112,14 @@ public class NotesCommand extends Command {
         }
 
         NotesCommand otherNotesCommand = (NotesCommand) other;
-        return targetIndex.equals(otherNotesCommand.targetIndex)
+        return targets.equals(otherNotesCommand.targets)
                 && notes.equals(otherNotesCommand.notes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targets", targets)
                 .add("notes", notes)
                 .toString();
     }
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import seedu.address.model.HistoryStatus;
+import seedu.address.model.Model;
+
+/**
+ * Reports the size of the undo history and the memory used by the application.
+ */
+public class StatusCommand extends Command {
+
+    public static final String COMMAND_WORD = "status";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the size of the undo history and the memory used by RecruitIntel.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_HISTORY = "Undo history: %1$d of %2$d state(s) held "
+            + "(%3$d undoable, %4$d redoable), using about %5$s of %6$s allowed.";
+
+    public static final String MESSAGE_HEAP = "Memory in use: %1$s of %2$s available.";
+
+    private static final String[] BYTE_UNITS = {"B", "KB", "MB", "GB", "TB"};
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        return new CommandResult(formatHistoryStatus(model.getHistoryStatus()) + "\n"
+                + String.format(MESSAGE_HEAP, formatBytes(usedHeap), formatBytes(runtime.maxMemory())));
+    }
+
+    /**
+     * Formats {@code status} for display to the user.
+     */
+    public static String formatHistoryStatus(HistoryStatus status) {
+        requireNonNull(status);
+        return String.format(MESSAGE_HISTORY, status.getHeldStates(), status.getMaxStates(),
+                status.getUndoableStates(), status.getRedoableStates(),
+                formatBytes(status.getEstimatedBytes()), formatBytes(status.getMaxBytes()));
+    }
+
+    /**
+     * Formats a byte count with a binary unit, e.g. {@code 1536} as {@code "1.5 KB"}.
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " " + BYTE_UNITS[0];
+        }
+        double value = bytes;
+        int unit = 0;
+        while (value >= 1024 && unit < BYTE_UNITS.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format(Locale.ROOT, "%.1f %s", value, BYTE_UNITS[unit]);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof StatusCommand; // instanceof handles nulls
+    }
+}
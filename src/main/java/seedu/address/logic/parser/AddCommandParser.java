@@ -28,6 +28,9 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_JOB_POSITION, PREFIX_TEAM, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -44,8 +47,7 @@ public class AddCommandParser implements Parser<AddCommand> {
      * Tokenizes the command arguments with the required prefixes.
      */
     private ArgumentMultimap tokenizeArguments(String args) {
-        return ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
-                PREFIX_JOB_POSITION, PREFIX_TEAM, PREFIX_TAG);
+        return TOKENIZER.split(args);
     }
 
     /**
@@ -1,40 +1,40 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.ClassifyCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.InterviewCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.NotesCommand;
-import seedu.address.logic.commands.RedoCommand;
-import seedu.address.logic.commands.SortCommand;
-import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The first word of the input selects the parser, from a {@code CommandRegistry}, that parses the rest of it.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry commandRegistry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser for the commands built into RecruitIntel.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(CommandRegistry.createDefault());
+    }
+
+    /**
+     * Creates a parser for the commands registered in {@code commandRegistry}, including those registered later.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -44,67 +44,52 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !isCommandWordSeparator(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || containsLineSeparator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case InterviewCommand.COMMAND_WORD:
-            return new InterviewCommandParser().parse(arguments);
-
-        case NotesCommand.COMMAND_WORD:
-            return new NotesCommandParser().parse(arguments);
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommandParser().parse(arguments);
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommandParser().parse(arguments);
-
-        case ClassifyCommand.COMMAND_WORD:
-            return new ClassifyCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        default:
+        Parser<? extends Command> parser = commandRegistry.getParser(commandWord).orElse(null);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns true if {@code c} ends a command word, i.e. is a whitespace character as matched by {@code \s} in
+     * a regular expression.
+     */
+    static boolean isCommandWordSeparator(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code input} has a line separator at or after {@code fromIndex}.
+     * Commands are a single line, and multi-line input is rejected as an invalid format.
+     */
+    private static boolean containsLineSeparator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
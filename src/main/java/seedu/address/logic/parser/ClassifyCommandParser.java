@@ -22,6 +22,9 @@ import seedu.address.model.person.TeamContainsKeywordsPredicate;
  */
 public class ClassifyCommandParser implements Parser<ClassifyCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_TAG, PREFIX_TEAM, PREFIX_JOB_POSITION);
+
     private static final String MESSAGE_EMPTY_TAG = "Tag value cannot be empty";
     private static final String MESSAGE_EMPTY_TEAM = "Team value cannot be empty";
     private static final String MESSAGE_EMPTY_JOB = "Job position value cannot be empty";
@@ -56,7 +59,7 @@ public class ClassifyCommandParser implements Parser<ClassifyCommand> {
      * Tokenizes the command arguments with the required prefixes.
      */
     private ArgumentMultimap tokenizeArguments(String args) {
-        return ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TEAM, PREFIX_JOB_POSITION);
+        return TOKENIZER.split(args);
     }
 
     /**
@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClassifyCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.InterviewCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NotesCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatusCommand;
+import seedu.address.logic.commands.UndoCommand;
+
+/**
+ * Maps command words, and any aliases of them, to the parsers of their commands.
+ * A parser is created once when it is registered and then used for every command it parses, possibly from several
+ * threads at once, so parsers must not hold any state between calls.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word \"%1$s\" is already registered.";
+    public static final String MESSAGE_INVALID_COMMAND_WORD =
+            "Command word \"%1$s\" must be non-empty and contain no whitespace.";
+
+    private final Map<String, Parser<? extends Command>> parsers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a registry of all the commands built into RecruitIntel.
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(InterviewCommand.COMMAND_WORD, new InterviewCommandParser());
+        registry.register(NotesCommand.COMMAND_WORD, new NotesCommandParser());
+        registry.register(UndoCommand.COMMAND_WORD, new UndoCommandParser());
+        registry.register(RedoCommand.COMMAND_WORD, new RedoCommandParser());
+        registry.register(ClassifyCommand.COMMAND_WORD, new ClassifyCommandParser());
+        registry.register(SortCommand.COMMAND_WORD, new SortCommandParser());
+        registry.register(StatusCommand.COMMAND_WORD, arguments -> new StatusCommand());
+        registry.register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord} or any of
+     * {@code aliases}.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered or is not a valid command word, in
+     *     which case none of them is registered.
+     */
+    public synchronized void register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        requireAllNonNull(commandWord, parser, aliases);
+        List<String> words = new ArrayList<>();
+        words.add(commandWord);
+        words.addAll(Arrays.asList(aliases));
+
+        for (String word : words) {
+            checkArgument(isValidCommandWord(word), String.format(MESSAGE_INVALID_COMMAND_WORD, word));
+            checkArgument(!parsers.containsKey(word) && words.indexOf(word) == words.lastIndexOf(word),
+                    String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+        }
+        for (String word : words) {
+            parsers.put(word, parser);
+        }
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    private static boolean isValidCommandWord(String word) {
+        return !word.isEmpty() && word.chars().noneMatch(AddressBookParser::isCommandWordSeparator);
+    }
+}
@@ -26,6 +26,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_JOB_POSITION, PREFIX_TEAM, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -47,8 +50,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      * Tokenizes the arguments with all available prefixes.
      */
     private ArgumentMultimap tokenizeArguments(String args) {
-        return ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
-                PREFIX_JOB_POSITION, PREFIX_TEAM, PREFIX_TAG);
+        return TOKENIZER.split(args);
     }
 
     /**
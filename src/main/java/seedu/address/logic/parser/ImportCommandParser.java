@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.CandidateFileReader;
+import seedu.address.storage.CandidateFileReader.Candidates;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ * The file named by the arguments is read and its candidates validated here, so that the command only has to add
+ * them to the model.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "Invalid file path: %1$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "the file does not exist.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the file cannot be read
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, e.getMessage()), e);
+        }
+        if (filePath.getFileName() == null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs));
+        }
+
+        Candidates candidates;
+        try {
+            candidates = CandidateFileReader.read(filePath);
+        } catch (DataLoadingException e) {
+            String reason = e.getCause() instanceof NoSuchFileException
+                    ? MESSAGE_FILE_NOT_FOUND
+                    : e.getCause().getMessage();
+            throw new ParseException(String.format(MESSAGE_READ_FAILURE, filePath, reason), e);
+        }
+        return new ImportCommand(filePath, candidates.getPersons(), candidates.getRejections());
+    }
+}
@@ -6,7 +6,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.InterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Duration;
@@ -28,30 +28,39 @@ public class InterviewCommandParser implements Parser<InterviewCommand> {
         requireNonNull(args);
         String trimmedArgs = args.trim();
 
-        String[] parts = trimmedArgs.split("\\s+");
+        // The indexes may contain whitespace around their separators, e.g. "1, 3-5", so they are read first
+        String[] indexesAndRest;
+        try {
+            indexesAndRest = ParserUtil.splitIndexSelection(trimmedArgs);
+        } catch (ParseException pe) {
+            logger.info("Invalid indexes input: " + trimmedArgs);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, InterviewCommand.MESSAGE_USAGE), pe);
+        }
+
+        String[] parts = indexesAndRest[1].split("\\s+");
 
-        if (parts.length < 4) {
+        if (parts.length < 3) {
             logger.info("Insufficient arguments provided for interview command");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, InterviewCommand.MESSAGE_USAGE));
         }
 
-        if (parts.length > 4) {
+        if (parts.length > 3) {
             logger.info("Over arguments provided for interview command");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, InterviewCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        IndexSelection targets;
         try {
-            index = ParserUtil.parseIndex(parts[0]);
-            logger.fine("Parsed index: " + index.getOneBased());
+            targets = ParserUtil.parseIndexSelection(indexesAndRest[0]);
+            logger.fine("Parsed indexes: " + targets);
         } catch (ParseException pe) {
-            logger.info("Invalid index input: " + parts[0]);
+            logger.info("Invalid indexes input: " + indexesAndRest[0]);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, InterviewCommand.MESSAGE_USAGE), pe);
         }
 
         // Reconstruct date and time string
-        String startTimeString = parts[1] + " " + parts[2];
-        String durationString = parts[3];
+        String startTimeString = parts[0] + " " + parts[1];
+        String durationString = parts[2];
 
         if (!StartTime.isValidStartTime(startTimeString)) {
             logger.info("Invalid start time format: " + startTimeString);
@@ -69,6 +78,6 @@ public class InterviewCommandParser implements Parser<InterviewCommand> {
         logger.fine("Parsed start time: " + startTime.value);
         logger.fine("Parsed duration: " + duration.getDurationInMinutes() + " minutes");
 
-        return new InterviewCommand(index, startTime, duration);
+        return new InterviewCommand(targets, startTime, duration);
     }
 }
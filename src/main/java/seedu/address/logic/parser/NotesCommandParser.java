@@ -7,7 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_NOTES_CHARACTER_LIMIT_EXCEEDE
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.NotesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Notes;
@@ -18,7 +18,6 @@ import seedu.address.model.person.Notes;
 public class NotesCommandParser implements Parser<NotesCommand> {
 
     private static final Logger logger = LogsCenter.getLogger(NotesCommandParser.class);
-    private static final int EXPECTED_PARTS = 2;
     private static final int INDEX_PART = 0;
     private static final int NOTES_PART = 1;
 
@@ -33,11 +32,11 @@ public class NotesCommandParser implements Parser<NotesCommand> {
         validateNonEmptyInput(trimmedArgs);
 
         String[] parts = splitInput(trimmedArgs);
-        Index index = parseIndex(parts[INDEX_PART]);
+        IndexSelection targets = parseTargets(parts[INDEX_PART]);
         Notes notes = parseNotes(parts[NOTES_PART]);
 
-        logger.fine("Created NotesCommand with index: " + index.getOneBased() + " and notes: " + notes.value);
-        return new NotesCommand(index, notes);
+        logger.fine("Created NotesCommand with indexes: " + targets + " and notes: " + notes.value);
+        return new NotesCommand(targets, notes);
     }
 
     /**
@@ -53,12 +52,20 @@ public class NotesCommandParser implements Parser<NotesCommand> {
     }
 
     /**
-     * Splits the input into index and notes parts.
-     * @throws ParseException if the input cannot be split into exactly two parts
+     * Splits the input into indexes and notes parts. The indexes part may contain whitespace around its separators,
+     * e.g. {@code 1, 3-5}.
+     * @throws ParseException if the input does not start with indexes followed by notes
      */
     private String[] splitInput(String trimmedArgs) throws ParseException {
-        String[] parts = trimmedArgs.split("\\s+", EXPECTED_PARTS);
-        if (parts.length < EXPECTED_PARTS) {
+        String[] parts;
+        try {
+            parts = ParserUtil.splitIndexSelection(trimmedArgs);
+        } catch (ParseException pe) {
+            logger.info("Notes command does not start with indexes: " + trimmedArgs);
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE), pe);
+        }
+        if (parts[NOTES_PART].isEmpty()) {
             logger.info("Insufficient arguments provided for notes command");
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE));
@@ -67,16 +74,16 @@ public class NotesCommandParser implements Parser<NotesCommand> {
     }
 
     /**
-     * Parses the index string into an Index object.
-     * @throws ParseException if the index string is invalid
+     * Parses the indexes string into an IndexSelection object.
+     * @throws ParseException if the indexes string is invalid
      */
-    private Index parseIndex(String indexStr) throws ParseException {
+    private IndexSelection parseTargets(String indexStr) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(indexStr);
-            logger.fine("Index parsed successfully: " + index.getOneBased());
-            return index;
+            IndexSelection targets = ParserUtil.parseIndexSelection(indexStr);
+            logger.fine("Indexes parsed successfully: " + targets);
+            return targets;
         } catch (ParseException pe) {
-            logger.info("Failed to parse index: " + indexStr);
+            logger.info("Failed to parse indexes: " + indexStr);
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE), pe);
         }
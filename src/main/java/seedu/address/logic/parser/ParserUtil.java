@@ -2,11 +2,16 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -23,6 +28,20 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The last index of a range cannot come before its first.";
+    public static final String SELECT_ALL_KEYWORD = "all";
+
+    private static final String INDEX_SEPARATOR = ",";
+    private static final String RANGE_SEPARATOR = "-";
+
+    /*
+     * An index selection at the start of the arguments, up to the first whitespace that is not around a separator.
+     * Whether each index in it is valid is left to parseIndexSelection.
+     */
+    private static final String INDEX_OR_RANGE = "\\d+(?:\\s*" + RANGE_SEPARATOR + "\\s*\\d+)?";
+    private static final Pattern LEADING_INDEX_SELECTION = Pattern.compile("(?<selection>" + SELECT_ALL_KEYWORD
+            + "|" + INDEX_OR_RANGE + "(?:\\s*" + INDEX_SEPARATOR + "\\s*" + INDEX_OR_RANGE + ")*)(?:\\s+|$)",
+            Pattern.CASE_INSENSITIVE);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -38,6 +57,55 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code indexes} into an {@code IndexSelection} and returns it. It is either {@value #SELECT_ALL_KEYWORD},
+     * for every candidate displayed, or a comma separated list of one-based indexes and ranges of them, e.g.
+     * {@code 1-50,72,90}. Leading and trailing whitespaces of the whole and of each part will be trimmed.
+     * @throws ParseException if any index or range is invalid.
+     */
+    public static IndexSelection parseIndexSelection(String indexes) throws ParseException {
+        requireNonNull(indexes);
+        String trimmedIndexes = indexes.trim();
+        if (trimmedIndexes.equalsIgnoreCase(SELECT_ALL_KEYWORD)) {
+            return IndexSelection.all();
+        }
+
+        List<IndexSelection> selections = new ArrayList<>();
+        for (String part : trimmedIndexes.split(INDEX_SEPARATOR, -1)) {
+            String[] bounds = part.split(RANGE_SEPARATOR, -1);
+            if (bounds.length == 1) {
+                selections.add(IndexSelection.of(parseIndex(part)));
+                continue;
+            }
+            if (bounds.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            Index first = parseIndex(bounds[0]);
+            Index last = parseIndex(bounds[1]);
+            if (last.getZeroBased() < first.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            selections.add(IndexSelection.range(first, last));
+        }
+        return IndexSelection.union(selections);
+    }
+
+    /**
+     * Splits {@code args} into the index selection it starts with and the arguments after it, e.g.
+     * {@code 1, 3-5 some text} into {@code 1, 3-5} and {@code some text}. Leading and trailing whitespaces of
+     * {@code args} will be trimmed. The arguments after the selection are empty if there are none.
+     * @throws ParseException if {@code args} does not start with an index selection.
+     */
+    public static String[] splitIndexSelection(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        Matcher matcher = LEADING_INDEX_SELECTION.matcher(trimmedArgs);
+        if (!matcher.lookingAt()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX);
+        }
+        return new String[] {matcher.group("selection"), trimmedArgs.substring(matcher.end())};
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -17,6 +19,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +50,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -74,6 +78,34 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Inserts a candidate at position {@code index} of the RecruitIntel.
+     * The person must not already exist in the RecruitIntel.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code persons} to the end of the RecruitIntel, in order.
+     * None of them may already exist in the RecruitIntel, nor be the same person as another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        version++;
+    }
+
+    /**
+     * Inserts each of {@code persons} at the position given for it by {@code indexes}, which are ascending positions
+     * in the resulting list. None of them may already exist in the RecruitIntel, nor be the same person as another.
+     */
+    public void addPersons(int[] indexes, List<Person> persons) {
+        this.persons.addAll(indexes, persons);
+        version++;
     }
 
     /**
@@ -86,6 +118,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
+    }
+
+    /**
+     * Replaces each of {@code targets} with the person at the same position in {@code editedPersons}.
+     * Each of {@code targets} must exist in the RecruitIntel.
+     * The person identities of {@code editedPersons} must not be the same as each other's, nor as that of
+     * another existing candidate in the RecruitIntel that is not replaced.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setAll(targets, editedPersons);
+        version++;
     }
 
     /**
@@ -94,6 +138,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Removes all of {@code persons} from this {@code RecruitIntel}.
+     * Each of them must exist in the RecruitIntel.
+     */
+    public void removePersons(List<Person> persons) {
+        this.persons.removeAll(persons);
+        version++;
     }
 
     /**
@@ -102,6 +156,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortPersons(Comparator<Person> comparator) {
         persons.sort(comparator);
+        version++;
+    }
+
+    /**
+     * Returns the modification version of this {@code RecruitIntel}, which increases every time its candidates are
+     * added, replaced, removed, reordered or reset, and never decreases.
+     * Two equal versions of the same {@code RecruitIntel} therefore mean that it has not been modified in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if {@code predicate} can be looked up by {@link #findPersonsMatchingAll(List)}.
+     */
+    public static boolean isIndexed(Predicate<? super Person> predicate) {
+        return UniquePersonList.isIndexed(predicate);
+    }
+
+    /**
+     * Returns the candidates in this {@code RecruitIntel} that match all of {@code criteria},
+     * looked up in the indexes instead of testing every candidate.
+     * Every criterion must be {@linkplain #isIndexed(Predicate) indexed}.
+     */
+    public Set<Person> findPersonsMatchingAll(List<? extends Predicate<Person>> criteria) {
+        requireNonNull(criteria);
+        return persons.findPersonsMatchingAll(criteria);
     }
 
     //// util methods
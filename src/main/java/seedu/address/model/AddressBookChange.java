@@ -0,0 +1,350 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Represents a single reversible mutation of an {@code AddressBook}.
+ * Changes only hold references to the (immutable) persons involved, so recording one costs O(1) for person-level
+ * operations rather than a copy of the whole address book.
+ */
+interface AddressBookChange {
+
+    /** Rough size of a change object and its small fixed fields. */
+    long CHANGE_OVERHEAD_BYTES = 32;
+
+    /** Size of a single object reference, assuming compressed oops. */
+    long REFERENCE_BYTES = 4;
+
+    /** Rough size of a {@code Person} and its eleven wrapper objects, excluding string contents. */
+    long PERSON_OVERHEAD_BYTES = 400;
+
+    /** Rough size of a {@code Tag} and its hash set entry, excluding the tag name. */
+    long TAG_OVERHEAD_BYTES = 80;
+
+    /** Rough size of a {@code String} object and its backing array header, excluding the characters. */
+    long STRING_OVERHEAD_BYTES = 40;
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state right after the change was applied.
+     */
+    void undo(AddressBook addressBook);
+
+    /**
+     * Re-applies this change on {@code addressBook}, which must be in the state right before the change was applied.
+     */
+    void redo(AddressBook addressBook);
+
+    /**
+     * Returns a rough estimate, in bytes, of the heap kept alive by this change while it is held in the history.
+     */
+    long estimateSize();
+
+    /**
+     * Returns a rough estimate, in bytes, of the heap used by {@code person}.
+     * Characters are counted as two bytes each, so this errs on the high side when strings are compact.
+     */
+    static long estimateSize(Person person) {
+        long size = PERSON_OVERHEAD_BYTES
+                + estimateSize(person.getName().fullName)
+                + estimateSize(person.getPhone().value)
+                + estimateSize(person.getEmail().value)
+                + estimateSize(person.getAddress().value)
+                + estimateSize(person.getJobPosition().value)
+                + estimateSize(person.getTeam().value)
+                + estimateSize(person.getNotes().value)
+                + estimateSize(person.getStartTime().value)
+                + estimateSize(person.getDuration().value);
+        for (Tag tag : person.getTags()) {
+            size += TAG_OVERHEAD_BYTES + estimateSize(tag.tagName);
+        }
+        return size;
+    }
+
+    private static long estimateSize(String value) {
+        return STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+
+    /**
+     * Returns a change recording that {@code person} was inserted at {@code index}.
+     */
+    static AddressBookChange personAdded(int index, Person person) {
+        return new PersonAdded(index, person);
+    }
+
+    /**
+     * Returns a change recording that {@code person} was removed from {@code index}.
+     */
+    static AddressBookChange personRemoved(int index, Person person) {
+        return new PersonRemoved(index, person);
+    }
+
+    /**
+     * Returns a change recording that {@code persons} were appended, in order, in a single operation.
+     * The list is copied, so the change stays valid if the caller later modifies it.
+     */
+    static AddressBookChange personsAdded(List<Person> persons) {
+        return new PersonsAdded(persons);
+    }
+
+    /**
+     * Returns a change recording that {@code persons} were removed, in a single operation, from the ascending
+     * positions {@code indexes}. The list and the positions are copied.
+     */
+    static AddressBookChange personsRemoved(int[] indexes, List<Person> persons) {
+        return new PersonsRemoved(indexes, persons);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code editedPerson}.
+     */
+    static AddressBookChange personReplaced(Person target, Person editedPerson) {
+        return new PersonReplaced(target, editedPerson);
+    }
+
+    /**
+     * Returns a change recording that each of {@code targets} was replaced by the person at the same position in
+     * {@code editedPersons}, in a single operation. Both lists are copied.
+     */
+    static AddressBookChange personsEdited(List<Person> targets, List<Person> editedPersons) {
+        return new PersonsEdited(targets, editedPersons);
+    }
+
+    /**
+     * Returns a change recording that the whole persons list was replaced, e.g. by a sort or a reset.
+     * Both lists are copied, so this change costs O(n) and should only be used for bulk operations.
+     */
+    static AddressBookChange personsReplaced(List<Person> before, List<Person> after) {
+        return new PersonsReplaced(before, after);
+    }
+
+    /**
+     * Insertion of a single person.
+     */
+    class PersonAdded implements AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        PersonAdded(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD_BYTES + AddressBookChange.estimateSize(person);
+        }
+    }
+
+    /**
+     * Removal of a single person.
+     */
+    class PersonRemoved implements AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        PersonRemoved(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD_BYTES + AddressBookChange.estimateSize(person);
+        }
+    }
+
+    /**
+     * Appending of several persons at once, e.g. by an import.
+     */
+    class PersonsAdded implements AddressBookChange {
+        private final List<Person> persons;
+        private final long estimatedSize;
+
+        PersonsAdded(List<Person> persons) {
+            this.persons = new ArrayList<>(persons);
+            this.estimatedSize = CHANGE_OVERHEAD_BYTES + REFERENCE_BYTES * this.persons.size()
+                    + this.persons.stream().mapToLong(AddressBookChange::estimateSize).sum();
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePersons(persons);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPersons(persons);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+    }
+
+    /**
+     * Removal of several persons at once, e.g. by a bulk delete.
+     */
+    class PersonsRemoved implements AddressBookChange {
+        private final int[] indexes;
+        private final List<Person> persons;
+        private final long estimatedSize;
+
+        PersonsRemoved(int[] indexes, List<Person> persons) {
+            this.indexes = indexes.clone();
+            this.persons = new ArrayList<>(persons);
+            this.estimatedSize = CHANGE_OVERHEAD_BYTES + (Integer.BYTES + REFERENCE_BYTES) * this.persons.size()
+                    + this.persons.stream().mapToLong(AddressBookChange::estimateSize).sum();
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.addPersons(indexes, persons);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePersons(persons);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+    }
+
+    /**
+     * In-place replacement of a single person.
+     */
+    class PersonReplaced implements AddressBookChange {
+        private final Person target;
+        private final Person editedPerson;
+
+        PersonReplaced(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPerson(target, editedPerson);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_OVERHEAD_BYTES + AddressBookChange.estimateSize(target)
+                    + AddressBookChange.estimateSize(editedPerson);
+        }
+    }
+
+    /**
+     * In-place replacement of several persons at once, e.g. by a bulk note.
+     */
+    class PersonsEdited implements AddressBookChange {
+        private final List<Person> targets;
+        private final List<Person> editedPersons;
+        private final long estimatedSize;
+
+        PersonsEdited(List<Person> targets, List<Person> editedPersons) {
+            this.targets = new ArrayList<>(targets);
+            this.editedPersons = new ArrayList<>(editedPersons);
+            // The edited persons are also held by the address book, so only the targets are charged
+            this.estimatedSize = CHANGE_OVERHEAD_BYTES + 2 * REFERENCE_BYTES * this.targets.size()
+                    + this.targets.stream().mapToLong(AddressBookChange::estimateSize).sum();
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(editedPersons, targets);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(targets, editedPersons);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+    }
+
+    /**
+     * Replacement of the whole persons list.
+     */
+    class PersonsReplaced implements AddressBookChange {
+        private final List<Person> before;
+        private final List<Person> after;
+        private final long estimatedSize;
+
+        PersonsReplaced(List<Person> before, List<Person> after) {
+            this.before = new ArrayList<>(before);
+            this.after = new ArrayList<>(after);
+            this.estimatedSize = estimateSize(this.before, this.after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(after);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        /**
+         * Charges both reference arrays plus the persons that only this change keeps alive: persons still in
+         * {@code after} are shared with the address book, so a sort costs references only while a clear is charged
+         * for every candidate it drops.
+         */
+        private static long estimateSize(List<Person> before, List<Person> after) {
+            long size = CHANGE_OVERHEAD_BYTES + REFERENCE_BYTES * (before.size() + after.size());
+            Set<Person> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+            shared.addAll(after);
+            for (Person person : before) {
+                if (!shared.contains(person)) {
+                    size += AddressBookChange.estimateSize(person);
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Records the undo/redo history of an {@code AddressBook} as a sequence of deltas.
+ * Each committed state stores only the changes made since the previous commit, so committing, undoing and redoing
+ * cost O(changes) instead of a copy of the whole address book. The history is bounded both by a number of committed
+ * states and by their estimated heap footprint; the oldest states are evicted first when either bound is exceeded.
+ */
+class AddressBookHistory {
+
+    private final int maxDepth;
+    private final long maxBytes;
+    private final List<CommittedState> committedStates = new ArrayList<>();
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private int currentStatePointer;
+    private long estimatedBytes;
+
+    /**
+     * Creates an empty history that keeps at most {@code maxDepth} committed states whose estimated size
+     * adds up to at most {@code maxBytes}.
+     */
+    AddressBookHistory(int maxDepth, long maxBytes) {
+        checkArgument(maxDepth > 0, "History depth must be positive");
+        checkArgument(maxBytes > 0, "History byte limit must be positive");
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records a change that has just been applied to the address book.
+     * The change becomes part of the next committed state.
+     */
+    void record(AddressBookChange change) {
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Commits all changes recorded since the last commit as a new state, discarding any redoable states.
+     * The newest state is always kept, even if it alone exceeds the byte limit.
+     */
+    void commit() {
+        List<CommittedState> redoableStates = committedStates.subList(currentStatePointer, committedStates.size());
+        redoableStates.forEach(state -> estimatedBytes -= state.estimatedSize);
+        redoableStates.clear();
+
+        CommittedState state = new CommittedState(pendingChanges);
+        committedStates.add(state);
+        estimatedBytes += state.estimatedSize;
+        pendingChanges.clear();
+        currentStatePointer++;
+
+        while (committedStates.size() > maxDepth
+                || (estimatedBytes > maxBytes && committedStates.size() > 1)) {
+            estimatedBytes -= committedStates.remove(0).estimatedSize;
+            currentStatePointer--;
+        }
+    }
+
+    boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    boolean canRedo() {
+        return currentStatePointer < committedStates.size();
+    }
+
+    /**
+     * Reverts {@code addressBook} to the previous committed state.
+     * Uncommitted changes are discarded first. There must be an undoable state.
+     */
+    void undo(AddressBook addressBook) {
+        assert canUndo();
+        revertPendingChanges(addressBook);
+        currentStatePointer--;
+        undoAll(committedStates.get(currentStatePointer).changes, addressBook);
+    }
+
+    /**
+     * Restores {@code addressBook} to the next committed state.
+     * Uncommitted changes are discarded first. There must be a redoable state.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo();
+        revertPendingChanges(addressBook);
+        committedStates.get(currentStatePointer).changes.forEach(change -> change.redo(addressBook));
+        currentStatePointer++;
+    }
+
+    /**
+     * Returns the number of committed states currently held.
+     */
+    int size() {
+        return committedStates.size();
+    }
+
+    /**
+     * Returns a snapshot of the current size and limits of this history.
+     */
+    HistoryStatus getStatus() {
+        return new HistoryStatus(currentStatePointer, committedStates.size() - currentStatePointer, maxDepth,
+                estimatedBytes, maxBytes);
+    }
+
+    private void revertPendingChanges(AddressBook addressBook) {
+        undoAll(pendingChanges, addressBook);
+        pendingChanges.clear();
+    }
+
+    private static void undoAll(List<AddressBookChange> changes, AddressBook addressBook) {
+        ListIterator<AddressBookChange> iterator = changes.listIterator(changes.size());
+        while (iterator.hasPrevious()) {
+            iterator.previous().undo(addressBook);
+        }
+    }
+
+    /**
+     * The changes of one commit together with their estimated size, computed once when the state is committed.
+     */
+    private static class CommittedState {
+        private final List<AddressBookChange> changes;
+        private final long estimatedSize;
+
+        CommittedState(List<AddressBookChange> changes) {
+            this.changes = List.copyOf(changes);
+            this.estimatedSize = changes.stream().mapToLong(AddressBookChange::estimateSize).sum();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A snapshot of the size and limits of the undo/redo history.
+ * Guarantees: immutable.
+ */
+public class HistoryStatus {
+
+    private final int undoableStates;
+    private final int redoableStates;
+    private final int maxStates;
+    private final long estimatedBytes;
+    private final long maxBytes;
+
+    /**
+     * Constructs a {@code HistoryStatus} with the given state counts and byte estimates.
+     */
+    public HistoryStatus(int undoableStates, int redoableStates, int maxStates, long estimatedBytes, long maxBytes) {
+        this.undoableStates = undoableStates;
+        this.redoableStates = redoableStates;
+        this.maxStates = maxStates;
+        this.estimatedBytes = estimatedBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getUndoableStates() {
+        return undoableStates;
+    }
+
+    public int getRedoableStates() {
+        return redoableStates;
+    }
+
+    /**
+     * Returns the total number of committed states held, both undoable and redoable.
+     */
+    public int getHeldStates() {
+        return undoableStates + redoableStates;
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryStatus)) {
+            return false;
+        }
+
+        HistoryStatus otherStatus = (HistoryStatus) other;
+        return undoableStates == otherStatus.undoableStates
+                && redoableStates == otherStatus.redoableStates
+                && maxStates == otherStatus.maxStates
+                && estimatedBytes == otherStatus.estimatedBytes
+                && maxBytes == otherStatus.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoableStates, redoableStates, maxStates, estimatedBytes, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoableStates", undoableStates)
+                .add("redoableStates", redoableStates)
+                .add("maxStates", maxStates)
+                .add("estimatedBytes", estimatedBytes)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -53,6 +54,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the AddressBook. It increases whenever the AddressBook is modified,
+     * including by undo and redo, so an unchanged version means there is nothing new to save, commit or recompute.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the RecruitIntel.
      */
@@ -64,12 +71,24 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all of the given candidates as a single change.
+     * Each of them must exist in the RecruitIntel.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given candidate.
      * {@code person} must not already exist in the RecruitIntel.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code persons} after the existing candidates, in order, as a single change.
+     * None of them may already exist in the RecruitIntel, nor be the same candidate as another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given candidate {@code target} with {@code editedPerson}.
      * {@code target} must exist in the RecruitIntel.
@@ -78,6 +97,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each of the given candidates {@code targets} with the candidate at the same position in
+     * {@code editedPersons}, as a single change. Each of {@code targets} must exist in the RecruitIntel.
+     * The candidate identities of {@code editedPersons} must not be the same as each other's, nor as that of
+     * another existing candidate in the RecruitIntel that is not replaced.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
     /** Returns an unmodifiable view of the filtered candidate list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -94,4 +121,7 @@ public interface Model {
     void undo() throws ModelManager.NoUndoableStateException;
 
     void redo() throws ModelManager.NoRedoableStateException;
+
+    /** Returns the current size and limits of the undo/redo history. */
+    HistoryStatus getHistoryStatus();
 }
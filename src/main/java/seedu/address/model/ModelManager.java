@@ -5,8 +5,13 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,7 +20,9 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.MatchesAllPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RefinablePredicate;
 
 /**
  * Represents the in-memory model of the RecruitIntel data.
@@ -26,8 +33,10 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final List<AddressBook> addressBookStateList;
-    private int currentStatePointer;
+    private final AddressBookHistory history;
+    private Predicate<? super Person> activePredicate = PREDICATE_SHOW_ALL_PERSONS;
+    /** The version of {@code addressBook} when it was last committed, undone or redone. */
+    private long committedVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,17 +47,31 @@ public class ModelManager implements Model {
         logger.fine("Initializing with RecruitIntel: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(this.addressBook));
-        currentStatePointer = 0;
         this.userPrefs = new UserPrefs(userPrefs);
+        history = createHistory(this.userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        committedVersion = this.addressBook.getVersion();
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Creates an undo history bounded by the limits in {@code userPrefs}.
+     * Non-positive limits, e.g. from a hand-edited preferences file, fall back to the defaults.
+     */
+    private static AddressBookHistory createHistory(ReadOnlyUserPrefs userPrefs) {
+        int maxDepth = userPrefs.getUndoHistoryLimit();
+        long maxBytes = userPrefs.getUndoHistoryMaxBytes();
+        if (maxDepth <= 0 || maxBytes <= 0) {
+            logger.warning("Invalid undo history limits in user prefs, using defaults instead");
+            maxDepth = maxDepth <= 0 ? UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT : maxDepth;
+            maxBytes = maxBytes <= 0 ? UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES : maxBytes;
+        }
+        return new AddressBookHistory(maxDepth, maxBytes);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -88,7 +111,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Person> before = new ArrayList<>(this.addressBook.getPersonList());
         this.addressBook.resetData(addressBook);
+        history.record(AddressBookChange.personsReplaced(before, this.addressBook.getPersonList()));
     }
 
     @Override
@@ -96,6 +121,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,12 +134,43 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.getPersonList().indexOf(target);
         addressBook.removePerson(target);
+        history.record(AddressBookChange.personRemoved(index, target));
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireAllNonNull(targets);
+        Set<Person> targetSet = new HashSet<>(targets);
+        List<Person> personList = addressBook.getPersonList();
+        List<Person> removed = new ArrayList<>(targets.size());
+        int[] indexes = new int[targets.size()];
+        for (int i = 0; i < personList.size() && removed.size() < indexes.length; i++) {
+            if (targetSet.contains(personList.get(i))) {
+                indexes[removed.size()] = i;
+                removed.add(personList.get(i));
+            }
+        }
+
+        // Throws if any target is missing, so the change is only recorded once every target has been found
+        addressBook.removePersons(targets);
+        history.record(AddressBookChange.personsRemoved(Arrays.copyOf(indexes, removed.size()), removed));
     }
 
     @Override
     public void addPerson(Person person) {
+        int index = addressBook.getPersonList().size();
         addressBook.addPerson(person);
+        history.record(AddressBookChange.personAdded(index, person));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        addressBook.addPersons(persons);
+        history.record(AddressBookChange.personsAdded(persons));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -118,6 +179,16 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        history.record(AddressBookChange.personReplaced(target, editedPerson));
+    }
+
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+        history.record(AddressBookChange.personsEdited(targets, editedPersons));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -131,10 +202,66 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * Re-applying the active predicate is a no-op. Otherwise only a scope of likely matches is tested against
+     * {@code predicate}, see {@link #scopeOf(Predicate)}. Later additions and edits are tested on their own by the
+     * filtered list, so they never trigger a full refilter.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(activePredicate)) {
+            return;
+        }
+
+        ScopedPredicate scopedPredicate = scopeOf(predicate);
+        filteredPersons.setPredicate(scopedPredicate);
+        scopedPredicate.releaseScope();
+        activePredicate = predicate;
+    }
+
+    /**
+     * Returns {@code predicate} restricted to the candidates that can possibly match it.
+     * Tag, team and job position criteria are answered from the indexes, leaving only the other criteria to
+     * test. Failing that, a refinement of the active predicate only needs to test the candidates currently shown.
+     */
+    private ScopedPredicate scopeOf(Predicate<Person> predicate) {
+        List<Predicate<Person>> criteria = predicate instanceof MatchesAllPredicate
+                ? ((MatchesAllPredicate) predicate).getPredicates()
+                : List.of(predicate);
+        List<Predicate<Person>> indexedCriteria = new ArrayList<>();
+        List<Predicate<Person>> otherCriteria = new ArrayList<>();
+        for (Predicate<Person> criterion : criteria) {
+            if (AddressBook.isIndexed(criterion)) {
+                indexedCriteria.add(criterion);
+            } else {
+                otherCriteria.add(criterion);
+            }
+        }
+
+        if (!indexedCriteria.isEmpty()) {
+            return new ScopedPredicate(predicate, addressBook.findPersonsMatchingAll(indexedCriteria),
+                    new MatchesAllPredicate(otherCriteria));
+        }
+        if (isRefinement(predicate, activePredicate)) {
+            return new ScopedPredicate(predicate, toIdentitySet(filteredPersons), predicate);
+        }
+        return new ScopedPredicate(predicate, null, predicate);
+    }
+
+    /**
+     * Returns true if every candidate matching {@code predicate} is known to also match {@code current}.
+     */
+    private static boolean isRefinement(Predicate<? super Person> predicate, Predicate<? super Person> current) {
+        return predicate instanceof RefinablePredicate
+                && ((RefinablePredicate) predicate).isRefinementOf(current);
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(persons);
+        return set;
     }
 
     @Override
@@ -157,7 +284,9 @@ public class ModelManager implements Model {
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        List<Person> before = new ArrayList<>(addressBook.getPersonList());
         addressBook.sortPersons(comparator);
+        history.record(AddressBookChange.personsReplaced(before, addressBook.getPersonList()));
     }
 
 
@@ -165,15 +294,14 @@ public class ModelManager implements Model {
     /**
      * Commits the current state of the address book to the history.
      * This method should be called after any changes to the address book.
+     * Only the changes made since the previous commit are stored, and nothing is stored if there are none.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this.addressBook));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        if (addressBook.getVersion() == committedVersion) {
+            return;
+        }
+        history.commit();
+        committedVersion = addressBook.getVersion();
     }
 
     /**
@@ -182,11 +310,11 @@ public class ModelManager implements Model {
      * @throws NoUndoableStateException if there is no undoable state in the model.
      */
     public void undo() throws NoUndoableStateException {
-        if (currentStatePointer == 0) {
+        if (!history.canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        this.setAddressBook(addressBookStateList.get(currentStatePointer));
+        history.undo(addressBook);
+        committedVersion = addressBook.getVersion();
     }
 
     /**
@@ -195,11 +323,54 @@ public class ModelManager implements Model {
      * @throws NoRedoableStateException if there is no redoable state in the model.
      */
     public void redo() throws NoRedoableStateException {
-        if (currentStatePointer >= addressBookStateList.size() - 1) {
+        if (!history.canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        this.setAddressBook(addressBookStateList.get(currentStatePointer));
+        history.redo(addressBook);
+        committedVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public HistoryStatus getHistoryStatus() {
+        return history.getStatus();
+    }
+
+    /**
+     * A predicate that, until its scope is released, rejects every candidate outside a given scope and only applies
+     * a residual test to those inside it. Once released, every candidate is tested against the full predicate.
+     */
+    private static class ScopedPredicate implements Predicate<Person> {
+        private final Predicate<? super Person> predicate;
+        private final Predicate<? super Person> residualPredicate;
+        private Set<Person> scope;
+
+        /**
+         * Constructs a {@code ScopedPredicate}. A null {@code scope} tests every candidate against {@code predicate}.
+         * @param predicate the full predicate
+         * @param scope the only candidates that can match {@code predicate}, compared by identity
+         * @param residualPredicate what remains of {@code predicate} to test for candidates in {@code scope}
+         */
+        ScopedPredicate(Predicate<? super Person> predicate, Set<Person> scope,
+                        Predicate<? super Person> residualPredicate) {
+            this.predicate = predicate;
+            this.scope = scope;
+            this.residualPredicate = residualPredicate;
+        }
+
+        /**
+         * Lifts the scope, so that candidates added or edited from now on are tested against the full predicate.
+         */
+        void releaseScope() {
+            scope = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (scope == null) {
+                return predicate.test(person);
+            }
+            return scope.contains(person) && residualPredicate.test(person);
+        }
     }
 
     /**
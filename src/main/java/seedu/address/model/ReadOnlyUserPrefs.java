@@ -13,4 +13,26 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the maximum number of undoable states kept in the undo history.
+     */
+    int getUndoHistoryLimit();
+
+    /**
+     * Returns the maximum estimated heap footprint, in bytes, of the undo history.
+     */
+    long getUndoHistoryMaxBytes();
+
+    /**
+     * Returns true if the address book file should be written indented for readability, rather than compactly.
+     */
+    boolean isAddressBookPrettyPrinted();
+
+    /**
+     * Returns how the address book is stored: {@code UserPrefs.ADDRESS_BOOK_FORMAT_JSON} to rewrite the whole file on
+     * every save, {@code UserPrefs.ADDRESS_BOOK_FORMAT_JOURNAL} to append the changes to a journal instead, or
+     * {@code UserPrefs.ADDRESS_BOOK_FORMAT_BINARY} to rewrite a compact binary file next to the JSON file.
+     */
+    String getAddressBookStorageFormat();
+
 }
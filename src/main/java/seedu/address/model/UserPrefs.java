@@ -13,8 +13,18 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 1000;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 64L * 1024 * 1024;
+    public static final String ADDRESS_BOOK_FORMAT_JSON = "json";
+    public static final String ADDRESS_BOOK_FORMAT_JOURNAL = "journal";
+    public static final String ADDRESS_BOOK_FORMAT_BINARY = "binary";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "recruitintel.json");
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
+    private boolean addressBookPrettyPrinted = true;
+    private String addressBookStorageFormat = ADDRESS_BOOK_FORMAT_JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
+        setAddressBookPrettyPrinted(newUserPrefs.isAddressBookPrettyPrinted());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    public String getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(String addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +116,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes
+                && addressBookPrettyPrinted == otherUserPrefs.addressBookPrettyPrinted
+                && addressBookStorageFormat.equals(otherUserPrefs.addressBookStorageFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryLimit, undoHistoryMaxBytes,
+                addressBookPrettyPrinted, addressBookStorageFormat);
     }
 
     @Override
@@ -82,6 +134,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history byte limit : " + undoHistoryMaxBytes);
+        sb.append("\nPretty-print local data file : " + addressBookPrettyPrinted);
+        sb.append("\nLocal data file storage format : " + addressBookStorageFormat);
         return sb.toString();
     }
 
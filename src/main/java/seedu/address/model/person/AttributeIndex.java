@@ -0,0 +1,174 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A dictionary-encoded index of the teams and job positions of persons.
+ * Each person is given a small integer slot, and each distinct team or job position search key a dictionary id with
+ * a bitmap of the slots holding it. A query resolves its keywords against the dictionary once, then ORs and ANDs
+ * bitmaps instead of testing every person. Persons are tracked by identity, so callers must add and remove the exact
+ * instances stored in the list.
+ */
+class AttributeIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Dictionary teams = new Dictionary(person -> person.getTeam().getSearchKey());
+    private final Dictionary jobPositions = new Dictionary(person -> person.getJobPosition().getSearchKey());
+
+    /**
+     * Indexes the team and job position of {@code person}.
+     */
+    void add(Person person) {
+        int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.pop();
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        slots.put(person, slot);
+        teams.add(person, slot);
+        jobPositions.add(person, slot);
+    }
+
+    /**
+     * Removes {@code person} from the index and frees its slot for reuse.
+     */
+    void remove(Person person) {
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        teams.remove(person, slot);
+        jobPositions.remove(person, slot);
+        personsBySlot.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    void clear() {
+        slots.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        teams.clear();
+        jobPositions.clear();
+    }
+
+    /**
+     * Returns the slots of the persons whose team's search key contains one of {@code searchKeys}.
+     */
+    BitSet findTeamSlots(List<String> searchKeys) {
+        return teams.findSlots(searchKeys);
+    }
+
+    /**
+     * Returns the slots of the persons whose job position's search key contains one of {@code searchKeys}.
+     */
+    BitSet findJobPositionSlots(List<String> searchKeys) {
+        return jobPositions.findSlots(searchKeys);
+    }
+
+    /**
+     * Returns true if {@code person} occupies one of {@code slotsToCheck}.
+     */
+    boolean isInSlots(Person person, BitSet slotsToCheck) {
+        Integer slot = slots.get(person);
+        return slot != null && slotsToCheck.get(slot);
+    }
+
+    /**
+     * Returns the persons occupying {@code slotsToResolve}, compared by identity.
+     */
+    Set<Person> toPersons(BitSet slotsToResolve) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        slotsToResolve.stream().mapToObj(personsBySlot::get).forEach(persons::add);
+        return persons;
+    }
+
+    /**
+     * Maps each distinct search key of one attribute to an id, and each id to the bitmap of slots holding that key.
+     * Ids whose bitmap becomes empty are recycled, so the dictionary only holds keys that are in use.
+     */
+    private static class Dictionary {
+        private final Function<Person, String> searchKeyExtractor;
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> searchKeys = new ArrayList<>();
+        private final List<BitSet> bitmaps = new ArrayList<>();
+        private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+        Dictionary(Function<Person, String> searchKeyExtractor) {
+            this.searchKeyExtractor = searchKeyExtractor;
+        }
+
+        void add(Person person, int slot) {
+            String searchKey = searchKeyExtractor.apply(person);
+            Integer id = ids.get(searchKey);
+            if (id == null) {
+                id = newId(searchKey);
+            }
+            bitmaps.get(id).set(slot);
+        }
+
+        void remove(Person person, int slot) {
+            String searchKey = searchKeyExtractor.apply(person);
+            Integer id = ids.get(searchKey);
+            if (id == null) {
+                return;
+            }
+            BitSet bitmap = bitmaps.get(id);
+            bitmap.clear(slot);
+            if (bitmap.isEmpty()) {
+                ids.remove(searchKey);
+                searchKeys.set(id, null);
+                freeIds.push(id);
+            }
+        }
+
+        void clear() {
+            ids.clear();
+            searchKeys.clear();
+            bitmaps.clear();
+            freeIds.clear();
+        }
+
+        /**
+         * Returns the union of the bitmaps of every search key containing one of {@code keywordSearchKeys}.
+         */
+        BitSet findSlots(List<String> keywordSearchKeys) {
+            BitSet result = new BitSet();
+            for (int id = 0; id < searchKeys.size(); id++) {
+                String searchKey = searchKeys.get(id);
+                if (searchKey != null && StringUtil.containsAnySearchKey(searchKey, keywordSearchKeys)) {
+                    result.or(bitmaps.get(id));
+                }
+            }
+            return result;
+        }
+
+        private int newId(String searchKey) {
+            int id;
+            if (freeIds.isEmpty()) {
+                id = searchKeys.size();
+                searchKeys.add(searchKey);
+                bitmaps.add(new BitSet());
+            } else {
+                id = freeIds.pop();
+                searchKeys.set(id, searchKey);
+            }
+            ids.put(searchKey, id);
+            return id;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Candidate's job position in RecruitIntel.
@@ -36,6 +37,7 @@ public class JobPosition {
     private static final String ALLOWED_SPECIAL_CHARS = ". ,()@/-&+ ";
 
     public final String value;
+    private final String searchKey;
 
     /**
      * Constructs a {@code JobPosition}.
@@ -44,25 +46,38 @@ public class JobPosition {
      */
     public JobPosition(String jobPosition) {
         requireNonNull(jobPosition);
-        String validationError = getValidationErrorMessage(jobPosition);
-        if (!validationError.equals(MESSAGE_CONSTRAINTS)) {
+        if (!isValidJobPosition(jobPosition)) {
             logger.warning("Invalid job position attempted: " + jobPosition);
-            throw new IllegalArgumentException(validationError);
+            throw new IllegalArgumentException(getValidationErrorMessage(jobPosition));
         }
         value = jobPosition;
+        searchKey = StringUtil.toSearchKey(jobPosition);
+    }
+
+    /**
+     * Returns the case-folded form of this job position that searches match against, computed once at construction.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     /**
      * Returns true if a given string is a valid job position.
      */
     public static boolean isValidJobPosition(String test) {
-        try {
-            new JobPosition(test);
-            return true;
-        } catch (IllegalArgumentException e) {
-            logger.fine("Job position validation failed: " + test);
+        if (test.isEmpty() || !Character.isLetterOrDigit(test.charAt(0))) {
             return false;
         }
+        for (int i = 1; i < test.length(); i++) {
+            if (!isAllowedCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllowedCharacter(char c) {
+        return Character.isLetterOrDigit(c) || ALLOWED_SPECIAL_CHARS.indexOf(c) >= 0;
     }
 
     /**
@@ -94,7 +109,7 @@ public class JobPosition {
     private static String findInvalidCharacters(String jobPosition) {
         StringBuilder invalidChars = new StringBuilder();
         for (char c : jobPosition.toCharArray()) {
-            if (!Character.isLetterOrDigit(c) && !ALLOWED_SPECIAL_CHARS.contains(String.valueOf(c))) {
+            if (!isAllowedCharacter(c)) {
                 invalidChars.append("'").append(c).append("' ");
             }
         }
@@ -5,21 +5,37 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Tests that a {@code Person}'s {@code JobPosition} matches any of the keywords given.
  * Keywords are matched case-insensitively against any part of the job position.
  */
-public class JobPositionContainsKeywordsPredicate implements Predicate<Person> {
+public class JobPositionContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
+    private final List<String> searchKeys;
 
     /**
      * Constructs a new {@code JobPositionContainsKeywordsPredicate}.
+     * Keywords are normalised once here rather than on every test.
      * @param keywords the list of keywords to match against job positions
      */
     public JobPositionContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         keywords.forEach(keyword -> requireNonNull(keyword, "Keywords cannot contain null elements"));
         this.keywords = keywords;
+        this.searchKeys = StringUtil.toSearchKeys(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the {@linkplain StringUtil#toSearchKey(String) search keys} of the keywords.
+     */
+    public List<String> getSearchKeys() {
+        return searchKeys;
     }
 
     @Override
@@ -27,12 +43,14 @@ public class JobPositionContainsKeywordsPredicate implements Predicate<Person> {
         requireNonNull(person);
         assert person.getJobPosition() != null : "Person's job position cannot be null";
 
-        String jobPositionText = person.getJobPosition().toString().toLowerCase();
-        assert !jobPositionText.isEmpty() : "Job position text cannot be empty after conversion";
+        return StringUtil.containsAnySearchKey(person.getJobPosition().getSearchKey(), searchKeys);
+    }
 
-        return keywords.stream()
-                .map(String::toLowerCase)
-                .anyMatch(jobPositionText::contains);
+    @Override
+    public boolean isRefinementOf(Predicate<? super Person> other) {
+        return other instanceof JobPositionContainsKeywordsPredicate
+                && StringUtil.isSubstringRefinementIgnoreCase(keywords,
+                        ((JobPositionContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Candidate} matches all of the given predicates.
+ */
+public class MatchesAllPredicate implements RefinablePredicate {
+    private final List<Predicate<Person>> predicates;
+
+    /**
+     * Constructs a new {@code MatchesAllPredicate}.
+     * @param predicates the predicates that must all match
+     */
+    public MatchesAllPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    public List<Predicate<Person>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every predicate that {@code other} requires is implied by one of these predicates,
+     * e.g. {@code t/python t/senior} refines {@code t/python}.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<? super Person> other) {
+        if (other instanceof MatchesAllPredicate) {
+            return ((MatchesAllPredicate) other).predicates.stream().allMatch(this::implies);
+        }
+        return implies(other);
+    }
+
+    private boolean implies(Predicate<? super Person> other) {
+        return predicates.stream().anyMatch(predicate -> predicate.equals(other)
+                || (predicate instanceof RefinablePredicate && ((RefinablePredicate) predicate).isRefinementOf(other)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchesAllPredicate)) {
+            return false;
+        }
+
+        MatchesAllPredicate otherMatchesAllPredicate = (MatchesAllPredicate) other;
+        return predicates.equals(otherMatchesAllPredicate.predicates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
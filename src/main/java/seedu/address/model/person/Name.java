@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Candidate's name in the RecruitIntel.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -26,8 +30,10 @@ public class Name {
      * 3. Can have any number of these characters after the first: *
      */
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}\\p{L}][\\p{L}\\p{Alnum}\\s\\-\\'\\.\\/ ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Name}.
@@ -38,13 +44,21 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchKey = StringUtil.toSearchKey(name);
+    }
+
+    /**
+     * Returns the case-folded form of this name that searches match against, computed once at construction.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -3,22 +3,34 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Candidate}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
+    private final List<String> searchKeys;
 
+    /**
+     * Constructs a new {@code NameContainsKeywordsPredicate}, normalising {@code keywords} once for all tests.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeys = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
+        return StringUtil.containsAnySearchKey(person.getName().getSearchKey(), searchKeys);
+    }
+
+    @Override
+    public boolean isRefinementOf(Predicate<? super Person> other) {
+        return other instanceof NameContainsKeywordsPredicate
+                && StringUtil.isSubstringRefinementIgnoreCase(keywords,
+                        ((NameContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents interviewer notes for a Candidate in RecruitIntel.
  * Guarantees: immutable; is valid as declared in {@link #isValidNotes(String)}
@@ -23,6 +25,7 @@ public class Notes {
      * up to MAX_LENGTH times
      */
     private static final String VALIDATION_REGEX = String.format("^.{0,%d}$", MAX_LENGTH);
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -42,7 +45,7 @@ public class Notes {
      * A valid notes string must not exceed MAX_LENGTH characters.
      */
     public static boolean isValidNotes(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on candidates that can tell when it only narrows down the matches of another predicate.
+ * This lets the filtered candidate list re-test just the currently shown candidates when a search is refined.
+ */
+public interface RefinablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every candidate matching this predicate is guaranteed to also match {@code other}.
+     * A false result only means that this could not be determined cheaply.
+     */
+    boolean isRefinementOf(Predicate<? super Person> other);
+}
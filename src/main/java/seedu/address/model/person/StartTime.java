@@ -3,8 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 /**
  * Represents the start time of an interview in the format "yyyy-MM-dd HH:mm".
@@ -16,7 +15,7 @@ public class StartTime implements Comparable<StartTime> {
             + "Example: \"2025-04-01 10:15\"";
 
     public static final String VALIDATION_REGEX = "^$|^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}$";
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
     private final LocalDateTime parsedStartTime;
 
@@ -33,10 +32,11 @@ public class StartTime implements Comparable<StartTime> {
             return;
         }
 
-        checkArgument(isValidStartTime(startTime), MESSAGE_CONSTRAINTS);
+        LocalDateTime parsed = parse(startTime);
+        checkArgument(parsed != null, MESSAGE_CONSTRAINTS);
 
         this.value = startTime;
-        this.parsedStartTime = LocalDateTime.parse(startTime, FORMATTER);
+        this.parsedStartTime = parsed;
     }
 
 
@@ -48,25 +48,30 @@ public class StartTime implements Comparable<StartTime> {
             return true;
         }
 
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-
-        try {
-            LocalDateTime parsed = LocalDateTime.parse(test, FORMATTER);
-
-            int year = parsed.getYear();
-            int month = parsed.getMonthValue();
-            int day = Integer.parseInt(test.substring(8, 10));
+        return parse(test) != null;
+    }
 
-            if (day > getDaysInMonth(year, month)) {
-                return false;
-            }
+    /**
+     * Returns the date and time {@code test} represents, or null if it is not a valid start time.
+     * {@code test} must not be blank; callers handle blank start times themselves.
+     * The digits are read directly, which is much cheaper than parsing with a {@code DateTimeFormatter} and throws
+     * no exception for invalid dates.
+     */
+    private static LocalDateTime parse(String test) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
+            return null;
+        }
 
-            return isMinuteMultipleOfFive(parsed);
-        } catch (DateTimeParseException e) {
-            return false;
+        int year = Integer.parseInt(test, 0, 4, 10);
+        int month = Integer.parseInt(test, 5, 7, 10);
+        int day = Integer.parseInt(test, 8, 10, 10);
+        int hour = Integer.parseInt(test, 11, 13, 10);
+        int minute = Integer.parseInt(test, 14, 16, 10);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > getDaysInMonth(year, month)
+                || hour > 23 || minute > 59 || minute % 5 != 0) {
+            return null;
         }
+        return LocalDateTime.of(year, month, day, hour, minute);
     }
 
     private static int getDaysInMonth(int year, int month) {
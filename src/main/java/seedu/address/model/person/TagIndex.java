@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from tag search keys to the persons holding a tag with that key.
+ * Persons are tracked by identity, so callers must add and remove the exact instances stored in the list.
+ *
+ * Keywords are matched as substrings of the search keys, like {@code TagsContainsKeywordsPredicate}.
+ * This scans the tag vocabulary, which is far smaller than the number of persons, rather than every person's tags.
+ */
+class TagIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Indexes every tag of {@code person}.
+     */
+    void add(Person person) {
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag.getSearchKey(), unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    /**
+     * Removes every tag of {@code person} from the index, dropping tag names that no one holds anymore.
+     */
+    void remove(Person person) {
+        for (Tag tag : person.getTags()) {
+            String key = tag.getSearchKey();
+            Set<Person> posting = postings.get(key);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons that, for each list of search keys in {@code criteria}, hold a tag containing one of them.
+     * The cheapest criterion is expanded first and the others only filter its result, so a rare tag keeps
+     * the whole query cheap.
+     */
+    Set<Person> findPersonsMatchingAll(List<List<String>> criteria) {
+        List<List<Set<Person>>> matchingPostings = new ArrayList<>();
+        for (List<String> keywords : criteria) {
+            matchingPostings.add(findPostings(keywords));
+        }
+        matchingPostings.sort(Comparator.comparingLong(TagIndex::totalSize));
+
+        Set<Person> result = newIdentitySet();
+        if (matchingPostings.isEmpty()) {
+            return result;
+        }
+        matchingPostings.get(0).forEach(result::addAll);
+        for (List<Set<Person>> otherPostings : matchingPostings.subList(1, matchingPostings.size())) {
+            if (result.isEmpty()) {
+                break;
+            }
+            result.removeIf(person -> otherPostings.stream().noneMatch(posting -> posting.contains(person)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the postings of every tag whose search key contains one of {@code searchKeys}.
+     */
+    private List<Set<Person>> findPostings(List<String> searchKeys) {
+        List<Set<Person>> matches = new ArrayList<>();
+        for (Map.Entry<String, Set<Person>> entry : postings.entrySet()) {
+            if (StringUtil.containsAnySearchKey(entry.getKey(), searchKeys)) {
+                matches.add(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    private static long totalSize(List<Set<Person>> postings) {
+        return postings.stream().mapToLong(Set::size).sum();
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,25 +3,51 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Candidate}'s any of the {@code Tag} matches any of the keywords given.
  */
-public class TagsContainsKeywordsPredicate implements Predicate<Person> {
+public class TagsContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
+    private final List<String> searchKeys;
 
+    /**
+     * Constructs a new {@code TagsContainsKeywordsPredicate}, normalising {@code keywords} once for all tests.
+     */
     public TagsContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeys = StringUtil.toSearchKeys(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the {@linkplain StringUtil#toSearchKey(String) search keys} of the keywords.
+     */
+    public List<String> getSearchKeys() {
+        return searchKeys;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        person.getTags().stream()
-                                .anyMatch(tag -> tag.getTagName().toLowerCase().contains(keyword.toLowerCase()))
-                );
+        for (Tag tag : person.getTags()) {
+            if (StringUtil.containsAnySearchKey(tag.getSearchKey(), searchKeys)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isRefinementOf(Predicate<? super Person> other) {
+        return other instanceof TagsContainsKeywordsPredicate
+                && StringUtil.isSubstringRefinementIgnoreCase(keywords,
+                        ((TagsContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Candidate's team in RecruitIntel.
@@ -35,6 +36,7 @@ public class Team {
     private static final String ALLOWED_SPECIAL_CHARS = ". ,()@/-&+ ";
 
     public final String value;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Team}.
@@ -43,25 +45,39 @@ public class Team {
      */
     public Team(String team) {
         requireNonNull(team);
-        String validationError = getValidationErrorMessage(team);
-        if (!validationError.equals(MESSAGE_CONSTRAINTS)) {
+        if (!isValidTeam(team)) {
             logger.warning("Invalid team name attempted: " + team);
-            throw new IllegalArgumentException(validationError);
+            throw new IllegalArgumentException(getValidationErrorMessage(team));
         }
         value = team;
+        searchKey = StringUtil.toSearchKey(team);
+    }
+
+    /**
+     * Returns the case-folded form of this team name that searches match against, computed once at construction.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     /**
      * Returns true if a given string is a valid team.
+     * Scans the characters directly rather than constructing a {@code Team}, so that invalid names cost no exception.
      */
     public static boolean isValidTeam(String test) {
-        try {
-            new Team(test);
-            return true;
-        } catch (IllegalArgumentException e) {
-            logger.fine("Team name validation failed: " + test);
+        if (test.isEmpty() || !Character.isLetterOrDigit(test.charAt(0))) {
             return false;
         }
+        for (int i = 1; i < test.length(); i++) {
+            if (!isAllowedCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllowedCharacter(char c) {
+        return Character.isLetterOrDigit(c) || ALLOWED_SPECIAL_CHARS.indexOf(c) >= 0;
     }
 
     /**
@@ -93,7 +109,7 @@ public class Team {
     private static String findInvalidCharacters(String team) {
         StringBuilder invalidChars = new StringBuilder();
         for (char c : team.toCharArray()) {
-            if (!Character.isLetterOrDigit(c) && !ALLOWED_SPECIAL_CHARS.contains(String.valueOf(c))) {
+            if (!isAllowedCharacter(c)) {
                 invalidChars.append("'").append(c).append("' ");
             }
         }
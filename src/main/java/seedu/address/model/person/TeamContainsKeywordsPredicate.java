@@ -5,21 +5,37 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Tests that a {@code Person}'s {@code Team} matches any of the keywords given.
  * Keywords are matched case-insensitively against any part of the team name.
  */
-public class TeamContainsKeywordsPredicate implements Predicate<Person> {
+public class TeamContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
+    private final List<String> searchKeys;
 
     /**
      * Constructs a new {@code TeamContainsKeywordsPredicate}.
+     * Keywords are normalised once here rather than on every test.
      * @param keywords the list of keywords to match against team names
      */
     public TeamContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         keywords.forEach(keyword -> requireNonNull(keyword, "Keywords cannot contain null elements"));
         this.keywords = keywords;
+        this.searchKeys = StringUtil.toSearchKeys(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the {@linkplain StringUtil#toSearchKey(String) search keys} of the keywords.
+     */
+    public List<String> getSearchKeys() {
+        return searchKeys;
     }
 
     @Override
@@ -27,12 +43,14 @@ public class TeamContainsKeywordsPredicate implements Predicate<Person> {
         requireNonNull(person);
         assert person.getTeam() != null : "Person's team cannot be null";
 
-        String teamText = person.getTeam().toString().toLowerCase();
-        assert !teamText.isEmpty() : "Team text cannot be empty after conversion";
+        return StringUtil.containsAnySearchKey(person.getTeam().getSearchKey(), searchKeys);
+    }
 
-        return keywords.stream()
-                .map(String::toLowerCase)
-                .anyMatch(teamText::contains);
+    @Override
+    public boolean isRefinementOf(Predicate<? super Person> other) {
+        return other instanceof TeamContainsKeywordsPredicate
+                && StringUtil.isSubstringRefinementIgnoreCase(keywords,
+                        ((TeamContainsKeywordsPredicate) other).keywords);
     }
 
     @Override
@@ -1,11 +1,22 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +30,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered by an index of persons keyed by their (case-insensitive) email, tag lookups by an
+ * inverted index of tag names, and team and job position lookups by dictionary-encoded bitmaps. All of them are kept
+ * in sync with the backing list by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,16 +43,18 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> emailIndex = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final AttributeIndex attributeIndex = new AttributeIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.containsKey(toIdentityKey(toCheck));
     }
 
-
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -49,8 +66,77 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-
         internalList.add(toAdd);
+        emailIndex.put(toIdentityKey(toAdd), toAdd);
+        tagIndex.add(toAdd);
+        attributeIndex.add(toAdd);
+    }
+
+    /**
+     * Inserts a person at the given position in the list.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.add(index, toAdd);
+        emailIndex.put(toIdentityKey(toAdd), toAdd);
+        tagIndex.add(toAdd);
+        attributeIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of them may already exist in the list, nor be the same person as another of them.
+     *
+     * @throws DuplicatePersonException if any of them is a duplicate, in which case none of them is added.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Person> newEmailIndex = indexByIdentity(toAdd);
+        if (newEmailIndex.keySet().stream().anyMatch(emailIndex::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(toAdd);
+        emailIndex.putAll(newEmailIndex);
+        toAdd.forEach(tagIndex::add);
+        toAdd.forEach(attributeIndex::add);
+    }
+
+    /**
+     * Inserts each of {@code toAdd} at the position given for it by {@code indexes}, as a single change to the list.
+     * Positions are those in the resulting list and must be ascending, e.g. the positions the persons were removed
+     * from. None of them may already exist in the list, nor be the same person as another of them.
+     *
+     * @throws DuplicatePersonException if any of them is a duplicate, in which case none of them is added.
+     */
+    public void addAll(int[] indexes, List<Person> toAdd) {
+        requireNonNull(indexes);
+        requireAllNonNull(toAdd);
+        checkArgument(indexes.length == toAdd.size(), "Each person must have a position");
+        Map<String, Person> newEmailIndex = indexByIdentity(toAdd);
+        if (newEmailIndex.keySet().stream().anyMatch(emailIndex::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        List<Person> merged = new ArrayList<>(internalList.size() + toAdd.size());
+        Iterator<Person> existing = internalList.iterator();
+        for (int i = 0; i < indexes.length; i++) {
+            while (merged.size() < indexes[i]) {
+                merged.add(existing.next());
+            }
+            merged.add(toAdd.get(i));
+        }
+        existing.forEachRemaining(merged::add);
+        internalList.setAll(merged);
+        emailIndex.putAll(newEmailIndex);
+        toAdd.forEach(tagIndex::add);
+        toAdd.forEach(attributeIndex::add);
     }
 
     /**
@@ -70,7 +156,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person storedTarget = internalList.set(index, editedPerson);
+        emailIndex.remove(toIdentityKey(target));
+        emailIndex.put(toIdentityKey(editedPerson), editedPerson);
+        tagIndex.remove(storedTarget);
+        tagIndex.add(editedPerson);
+        attributeIndex.remove(storedTarget);
+        attributeIndex.add(editedPerson);
     }
 
     /**
@@ -82,24 +174,165 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        Person storedPerson = emailIndex.remove(toIdentityKey(toRemove));
+        tagIndex.remove(storedPerson);
+        attributeIndex.remove(storedPerson);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list as a single change to the list, in one pass over it.
+     * Each of them must exist in the list.
+     *
+     * @throws PersonNotFoundException if any of them is not in the list, in which case none of them is removed.
+     */
+    public void removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        List<Person> storedPersons = new ArrayList<>(toRemove.size());
+        for (Person person : toRemove) {
+            Person storedPerson = emailIndex.get(toIdentityKey(person));
+            if (!person.equals(storedPerson)) {
+                throw new PersonNotFoundException();
+            }
+            storedPersons.add(storedPerson);
+        }
+
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(storedPersons);
+        List<Person> remaining = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            if (!removed.contains(person)) {
+                remaining.add(person);
+            }
+        }
+        internalList.setAll(remaining);
+        for (Person storedPerson : removed) {
+            emailIndex.remove(toIdentityKey(storedPerson));
+            tagIndex.remove(storedPerson);
+            attributeIndex.remove(storedPerson);
+        }
+    }
+
+    /**
+     * Replaces each of {@code targets} in the list with the person at the same position in {@code editedPersons},
+     * as a single change to the list, in one pass over it. Each of {@code targets} must exist in the list.
+     * The identities of {@code editedPersons} must not be the same as each other's, nor as that of another person in
+     * the list that is not replaced.
+     *
+     * @throws PersonNotFoundException if any target is not in the list, in which case nothing is replaced.
+     * @throws DuplicatePersonException if any edited person is a duplicate, in which case nothing is replaced.
+     */
+    public void setAll(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Each target must have an edited person");
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Person storedTarget = emailIndex.get(toIdentityKey(targets.get(i)));
+            if (!targets.get(i).equals(storedTarget)) {
+                throw new PersonNotFoundException();
+            }
+            replacements.put(storedTarget, editedPersons.get(i));
+        }
+        Map<String, Person> newEmailIndex = indexByIdentity(editedPersons);
+        for (String key : newEmailIndex.keySet()) {
+            Person existingPerson = emailIndex.get(key);
+            if (existingPerson != null && !replacements.containsKey(existingPerson)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        List<Person> updated = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            updated.add(replacements.getOrDefault(person, person));
+        }
+        internalList.setAll(updated);
+        for (Person storedTarget : replacements.keySet()) {
+            emailIndex.remove(toIdentityKey(storedTarget));
+            tagIndex.remove(storedTarget);
+            attributeIndex.remove(storedTarget);
+        }
+        emailIndex.putAll(newEmailIndex);
+        editedPersons.forEach(tagIndex::add);
+        editedPersons.forEach(attributeIndex::add);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every colliding email if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<String, Person> newEmailIndex = indexByIdentity(persons);
 
         internalList.setAll(persons);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        tagIndex.clear();
+        attributeIndex.clear();
+        persons.forEach(tagIndex::add);
+        persons.forEach(attributeIndex::add);
+    }
+
+    /**
+     * Returns true if {@code predicate} can be answered from the indexes by {@link #findPersonsMatchingAll(List)}.
+     */
+    public static boolean isIndexed(Predicate<? super Person> predicate) {
+        return predicate instanceof TagsContainsKeywordsPredicate
+                || predicate instanceof TeamContainsKeywordsPredicate
+                || predicate instanceof JobPositionContainsKeywordsPredicate;
+    }
+
+    /**
+     * Returns the persons in this list that match all of {@code criteria}, answered from the indexes.
+     * Tag criteria are intersected through the tag index, and team and job position criteria by ANDing bitmaps.
+     * The returned set compares persons by identity and is not backed by this list.
+     *
+     * @throws IllegalArgumentException if {@code criteria} is empty or contains a predicate that is not indexed.
+     */
+    public Set<Person> findPersonsMatchingAll(List<? extends Predicate<Person>> criteria) {
+        requireAllNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "Criteria cannot be empty");
+
+        List<List<String>> tagCriteria = new ArrayList<>();
+        BitSet slots = null;
+        for (Predicate<Person> criterion : criteria) {
+            BitSet criterionSlots;
+            if (criterion instanceof TagsContainsKeywordsPredicate) {
+                tagCriteria.add(((TagsContainsKeywordsPredicate) criterion).getSearchKeys());
+                continue;
+            } else if (criterion instanceof TeamContainsKeywordsPredicate) {
+                criterionSlots = attributeIndex.findTeamSlots(
+                        ((TeamContainsKeywordsPredicate) criterion).getSearchKeys());
+            } else if (criterion instanceof JobPositionContainsKeywordsPredicate) {
+                criterionSlots = attributeIndex.findJobPositionSlots(
+                        ((JobPositionContainsKeywordsPredicate) criterion).getSearchKeys());
+            } else {
+                throw new IllegalArgumentException("Criterion is not indexed: " + criterion);
+            }
+            if (slots == null) {
+                slots = criterionSlots;
+            } else {
+                slots.and(criterionSlots);
+            }
+        }
+
+        if (tagCriteria.isEmpty()) {
+            return attributeIndex.toPersons(slots);
+        }
+        Set<Person> persons = tagIndex.findPersonsMatchingAll(tagCriteria);
+        if (slots != null) {
+            BitSet attributeSlots = slots;
+            persons.removeIf(person -> !attributeIndex.isInSlots(person, attributeSlots));
+        }
+        return persons;
     }
 
     /**
@@ -141,6 +374,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Sorts the internal list using the given comparator.
+     * The indexes do not depend on positions, so they remain valid after sorting.
      * @param comparator the comparator to use for sorting
      */
     public void sort(Comparator<Person> comparator) {
@@ -148,18 +382,65 @@ public class UniquePersonList implements Iterable<Person> {
         FXCollections.sort(internalList, comparator);
     }
 
+    /**
+     * Returns the key under which {@code person} is stored in the email index.
+     * Emails are compared case-insensitively, consistent with {@code Email#equals(Object)}.
+     */
+    private static String toIdentityKey(Person person) {
+        return person.getEmail().value.toLowerCase();
+    }
+
+    /**
+     * Rebuilds the email, tag and attribute indexes from the current contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        emailIndex.clear();
+        tagIndex.clear();
+        attributeIndex.clear();
+        for (Person person : internalList) {
+            emailIndex.put(toIdentityKey(person), person);
+            tagIndex.add(person);
+            attributeIndex.add(person);
+        }
+    }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an email index over {@code persons}, built in a single pass.
+     *
+     * @throws DuplicatePersonException listing every colliding email, together with the one-based positions of
+     *     the colliding persons in {@code persons}, if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByIdentity(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        Map<String, Integer> firstRows = new HashMap<>();
+        Map<String, List<Integer>> collisions = new LinkedHashMap<>();
+
+        int row = 0;
+        for (Person person : persons) {
+            row++;
+            String key = toIdentityKey(person);
+            Integer firstRow = firstRows.putIfAbsent(key, row);
+            if (firstRow == null) {
+                index.put(key, person);
+                continue;
             }
+            collisions.computeIfAbsent(key, unused -> new ArrayList<>(List.of(firstRow))).add(row);
+        }
+
+        if (!collisions.isEmpty()) {
+            throw new DuplicatePersonException(describeCollisions(collisions));
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Formats each entry of {@code collisions} as {@code "email (rows i, j, ...)"}.
+     */
+    private static List<String> describeCollisions(Map<String, List<Integer>> collisions) {
+        return collisions.entrySet().stream()
+                .map(entry -> entry.getKey() + " (rows " + entry.getValue().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(", ")) + ")")
+                .collect(Collectors.toList());
     }
 }
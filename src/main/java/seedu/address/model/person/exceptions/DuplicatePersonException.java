@@ -1,11 +1,35 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Candidates (Candidates
  * are considered duplicates if they have the same identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<String> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate candidates");
+        this.duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} describing every identity collision that was found.
+     *
+     * @param duplicates descriptions of the colliding candidates, e.g. {@code "alice@example.com (rows 1, 4)"}.
+     */
+    public DuplicatePersonException(List<String> duplicates) {
+        super("Operation would result in duplicate candidates: " + String.join(", ", duplicates));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns descriptions of the colliding candidates, or an empty list if they were not recorded.
+     */
+    public List<String> getDuplicates() {
+        return duplicates;
     }
 }
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the RecruitIntel.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,8 +17,10 @@ public class Tag {
             "Tags should only contain alphanumeric characters, dots, plus signs, hash symbols, and hyphens. "
                     + "It must not be blank and it cannot contain spaces.";
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}+#.\\-]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Tag}.
@@ -25,17 +31,25 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = StringUtil.toSearchKey(tagName);
     }
 
     public String getTagName() {
         return tagName;
     }
 
+    /**
+     * Returns the case-folded form of this tag name that searches match against, computed once at construction.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,250 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Duration;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StartTime;
+import seedu.address.model.person.Team;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates large numbers of realistic, valid candidates for load and soak testing.
+ * Generators created with the same seed produce the same candidates in the same order.
+ * Teams, job positions and tags are drawn from skewed distributions so that a few values are common and most are
+ * rare, as in real recruitment data. Every generated candidate has a unique email.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+
+    public static final String MESSAGE_INVALID_COUNT = "Number of candidates to generate cannot be negative.";
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlie", "David", "Emma", "Fiona", "George", "Hannah", "Ian", "Julia", "Kevin", "Linda",
+        "Irfan", "Roy", "Wei Ling", "Siti", "Kumar", "Mei", "Ahmad", "Priya", "Jun Jie", "Nur", "Rajesh", "Xin Yi"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Tan", "Li", "Wong", "Zhang", "Lee", "Lim", "Chen", "Patel", "Kim", "Ibrahim",
+        "Balakrishnan", "Ng", "Chua", "Goh", "Ong", "Koh", "Teo", "Rahman", "Singh", "Nair"
+    };
+    private static final String[] STREETS = {
+        "Geylang", "Serangoon Gardens", "Ang Mo Kio", "Tampines", "Aljunied", "Clementi", "Yishun", "Hougang",
+        "Jurong East", "Bishan", "Pasir Ris", "Bedok", "Toa Payoh", "Woodlands", "Punggol"
+    };
+
+    /** Each row is a team followed by the job positions that team hires for. Earlier teams are more common. */
+    private static final String[][] TEAM_JOB_POSITIONS = {
+        {"Backend", "Software Engineer", "Backend Developer", "Site Reliability Engineer"},
+        {"iOS Development", "Software Engineer", "iOS Developer", "Product Manager"},
+        {"Android Development", "Software Engineer", "Android Developer", "Product Manager"},
+        {"Data", "Data Scientist", "Data Analyst", "Machine Learning Engineer"},
+        {"Design", "UI/UX Designer", "Product Designer", "User Researcher"},
+        {"Infrastructure", "DevOps Engineer", "Cloud Engineer"},
+        {"Security", "Security Engineer", "Security Analyst"},
+        {"TikTok Live", "Frontend Developer", "Software Engineer", "Product Manager"},
+        {"Marketing", "Marketing Lead", "Content Strategist"},
+        {"Human Resources", "Recruiter", "HR Business Partner"}
+    };
+    private static final String[] TAGS = {
+        "experienced", "junior", "senior", "mobile", "python", "java", "agile", "design", "cloud", "remote",
+        "referral", "swift", "kotlin", "figma", "aws", "kubernetes", "spring", "django", "ml", "security",
+        "react", "typescript", "go", "rust", "sql", "leadership", "intern", "urgent", "relocation", "c++"
+    };
+    private static final int[] TAG_COUNT_WEIGHTS = {8, 17, 30, 25, 12, 5, 3};
+
+    private static final String[] NOTE_SENTENCES = {
+        "Strong problem-solving skills and attention to detail.",
+        "Communicated clearly throughout the technical round.",
+        "Has led several successful product launches.",
+        "Needs more exposure to large-scale distributed systems.",
+        "Passionate about clean code and test-driven development.",
+        "Available to start within one month.",
+        "Expecting a salary above the posted range.",
+        "Mentors junior engineers and contributes to architectural decisions.",
+        "Portfolio shows a consistent focus on accessibility.",
+        "Referred by a current team member.",
+        "Prefers a hybrid working arrangement.",
+        "Completed the take-home assignment ahead of schedule."
+    };
+    private static final double EMPTY_NOTES_RATE = 0.35;
+    private static final int MIN_NOTES_LENGTH = 40;
+
+    private static final double INTERVIEW_RATE = 0.55;
+    private static final LocalDate FIRST_INTERVIEW_DATE = LocalDate.of(2025, 3, 3);
+    private static final int INTERVIEW_WINDOW_DAYS = 26 * 7;
+    private static final int FIRST_INTERVIEW_HOUR = 9;
+    private static final int INTERVIEW_SLOTS_PER_DAY = 8 * 12;
+    private static final String[] DURATIONS = {"30", "45", "60", "90"};
+    private static final int[] DURATION_WEIGHTS = {3, 3, 3, 1};
+    private static final DateTimeFormatter START_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final Random random;
+    private final Map<String, Team> teams = new HashMap<>();
+    private final Map<String, JobPosition> jobPositions = new HashMap<>();
+    private final Map<String, Tag> tags = new HashMap<>();
+
+    /**
+     * Creates a generator whose output is fully determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns the next {@code count} candidates, with ids 0 to {@code count - 1}.
+     */
+    public List<Person> generatePersons(int count) {
+        checkArgument(count >= 0, MESSAGE_INVALID_COUNT);
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            persons.add(generatePerson(id));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding the next {@code count} candidates.
+     * To load them into a model, pass the result to {@code Model#setAddressBook}.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the next candidate. Its email is derived from {@code id}, so candidates generated with distinct ids
+     * are never duplicates of each other.
+     */
+    public Person generatePerson(int id) {
+        String firstName = pickUniform(FIRST_NAMES);
+        String lastName = pickUniform(LAST_NAMES);
+        String[] teamJobPositions = pickSkewed(TEAM_JOB_POSITIONS);
+        String team = teamJobPositions[0];
+        String jobPosition = teamJobPositions[1 + random.nextInt(teamJobPositions.length - 1)];
+
+        String[] interview = generateInterview();
+        return new Person(new Name(firstName + " " + lastName),
+                new Phone(generatePhone()),
+                new Email(generateEmail(firstName, lastName, id)),
+                new Address(generateAddress()),
+                jobPositions.computeIfAbsent(jobPosition, JobPosition::new),
+                teams.computeIfAbsent(team, Team::new),
+                generateTags(),
+                new Notes(generateNotes()),
+                new StartTime(interview[0]),
+                new Duration(interview[1]));
+    }
+
+    private String generatePhone() {
+        return (random.nextBoolean() ? "8" : "9") + String.format(Locale.ROOT, "%07d", random.nextInt(10_000_000));
+    }
+
+    private static String generateEmail(String firstName, String lastName, int id) {
+        return (firstName + "." + lastName).toLowerCase(Locale.ROOT).replace(" ", "") + id + "@example.com";
+    }
+
+    private String generateAddress() {
+        return String.format(Locale.ROOT, "Blk %d %s Street %d, #%02d-%02d", 1 + random.nextInt(999),
+                pickUniform(STREETS), 1 + random.nextInt(99), 1 + random.nextInt(25), 1 + random.nextInt(99));
+    }
+
+    private Set<Tag> generateTags() {
+        int tagCount = pickWeighted(TAG_COUNT_WEIGHTS);
+        Set<Tag> personTags = new HashSet<>();
+        while (personTags.size() < tagCount) {
+            personTags.add(tags.computeIfAbsent(pickSkewed(TAGS), Tag::new));
+        }
+        return personTags;
+    }
+
+    private String generateNotes() {
+        if (random.nextDouble() < EMPTY_NOTES_RATE) {
+            return "";
+        }
+        int targetLength = MIN_NOTES_LENGTH + random.nextInt(Notes.MAX_LENGTH - MIN_NOTES_LENGTH + 1);
+        StringBuilder notes = new StringBuilder();
+        // Walks the sentences from a random starting point; they are long enough that none is used twice
+        int next = random.nextInt(NOTE_SENTENCES.length);
+        while (true) {
+            String sentence = NOTE_SENTENCES[next];
+            next = (next + 1) % NOTE_SENTENCES.length;
+            int lengthWithSentence = notes.length() + (notes.length() == 0 ? 0 : 1) + sentence.length();
+            if (lengthWithSentence > targetLength && notes.length() > 0) {
+                return notes.toString();
+            }
+            if (notes.length() > 0) {
+                notes.append(' ');
+            }
+            notes.append(sentence);
+        }
+    }
+
+    /**
+     * Returns the start time and duration of an interview on a weekday during office hours, or two empty strings if
+     * the candidate has no interview scheduled.
+     */
+    private String[] generateInterview() {
+        if (random.nextDouble() >= INTERVIEW_RATE) {
+            return new String[] {"", ""};
+        }
+        LocalDate date = FIRST_INTERVIEW_DATE.plusDays(random.nextInt(INTERVIEW_WINDOW_DAYS));
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(2);
+        }
+        LocalDateTime startTime = date.atTime(FIRST_INTERVIEW_HOUR, 0)
+                .plusMinutes(5L * random.nextInt(INTERVIEW_SLOTS_PER_DAY));
+        return new String[] {startTime.format(START_TIME_FORMATTER), DURATIONS[pickWeighted(DURATION_WEIGHTS)]};
+    }
+
+    private <T> T pickUniform(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Picks a value such that earlier values are picked more often than later ones.
+     */
+    private <T> T pickSkewed(T[] values) {
+        double uniform = random.nextDouble();
+        return values[(int) (uniform * uniform * values.length)];
+    }
+
+    /**
+     * Returns an index into {@code weights}, picked with probability proportional to its weight.
+     */
+    private int pickWeighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int remaining = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            remaining -= weights[i];
+            if (remaining < 0) {
+                return i;
+            }
+        }
+        throw new AssertionError("Weights must be positive");
+    }
+}
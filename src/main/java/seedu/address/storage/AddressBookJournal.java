@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Team;
+
+/**
+ * An append-only log of the changes made to an address book since its file was last written in full.
+ *
+ * The journal of {@code data.json} is {@code data.json.journal}. It holds one JSON value per line: a header with
+ * the journal's generation, followed by one {@link JsonAdaptedJournalRecord} per change. Each address book file
+ * written in full records a new generation, and a journal is only replayed onto the file that records the same
+ * generation, so a journal left behind by an interrupted rewrite is never applied twice.
+ */
+class AddressBookJournal {
+
+    static final String FILE_EXTENSION = ".journal";
+    static final String MESSAGE_CORRUPTED_RECORD = "Record %1$d of journal %2$s is corrupted: %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path journalPath;
+    private FileChannel channel;
+
+    AddressBookJournal(Path journalPath) {
+        requireNonNull(journalPath);
+        this.journalPath = journalPath;
+    }
+
+    /**
+     * Returns the location of the journal of the address book file at {@code addressBookFilePath}.
+     */
+    static Path getJournalPath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the file that {@code filePath} is the backup of, or {@code filePath} itself if it is not a backup.
+     */
+    private static Path getBackedUpPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (!fileName.endsWith(FileUtil.BACKUP_FILE_EXTENSION)) {
+            return filePath;
+        }
+        return filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - FileUtil.BACKUP_FILE_EXTENSION.length()));
+    }
+
+    /**
+     * Discards the content of the journal and starts it afresh for {@code generation}.
+     */
+    void start(long generation) throws IOException {
+        close();
+        channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        writeLines(List.of(new Header(generation)));
+        // Records are appended through a channel opened for appending, which cannot also truncate
+        close();
+    }
+
+    /**
+     * Appends {@code records} to the journal and forces them to the disk before returning, so that the records of
+     * one save cost a single write and a single sync however many there are.
+     * The journal must already have been started, either by {@link #start(long)} or by an earlier run.
+     */
+    void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        writeLines(records);
+    }
+
+    /**
+     * Releases the open journal file, if any. The journal can still be appended to afterwards.
+     */
+    void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void writeLines(List<?> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(bytes, false)) {
+            generator.setRootValueSeparator(null);
+            for (Object value : values) {
+                JsonUtil.toJsonGenerator(generator, value);
+                generator.writeRaw('\n');
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Reads the address book file at {@code filePath} and replays its journal, if there is one for the generation
+     * recorded in the file.
+     * The backup of an address book file shares the journal of the file: the journal is only started afresh after the
+     * file is replaced, so it may still belong to the generation in the backup.
+     *
+     * An incomplete last record, as left by a write that was cut short, is ignored; any other unreadable record
+     * fails the whole read.
+     *
+     * @throws IOException if either file could not be read or is not in the expected format.
+     * @throws IllegalValueException if any candidate or change is invalid.
+     */
+    static Replay readAndReplay(Path filePath) throws IOException, IllegalValueException {
+        long[] fileGeneration = new long[1];
+        AddressBook addressBook = JsonAddressBookReader.read(filePath, generation -> fileGeneration[0] = generation);
+        long generation = fileGeneration[0];
+
+        Path journalPath = getJournalPath(getBackedUpPath(filePath));
+        if (generation <= 0 || !Files.exists(journalPath)) {
+            return new Replay(addressBook, generation, 0, false);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || readGeneration(header) != generation) {
+                logger.info("Ignoring journal " + journalPath + " as it does not belong to " + filePath);
+                return new Replay(addressBook, generation, 0, false);
+            }
+
+            Map<String, Team> teams = new HashMap<>();
+            Map<String, JobPosition> jobPositions = new HashMap<>();
+            int recordCount = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (JsonProcessingException e) {
+                    if (nextLine != null) {
+                        throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, recordCount + 1, journalPath,
+                                e.getOriginalMessage()), e);
+                    }
+                    logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                    return new Replay(addressBook, generation, recordCount, false);
+                }
+                record.applyTo(addressBook, teams, jobPositions);
+                recordCount++;
+                line = nextLine;
+            }
+            logger.info("Replayed " + recordCount + " changes from journal " + journalPath);
+            return new Replay(addressBook, generation, recordCount, true);
+        }
+    }
+
+    /**
+     * Returns the generation in the journal header {@code header}, or 0 if it is unreadable.
+     */
+    private static long readGeneration(String header) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(header, Header.class).generation;
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * The first line of a journal.
+     */
+    static class Header {
+        private final long generation;
+
+        @JsonCreator
+        Header(@JsonProperty("generation") long generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The result of {@link #readAndReplay(Path)}.
+     */
+    static class Replay {
+        private final AddressBook addressBook;
+        private final long generation;
+        private final int recordCount;
+        private final boolean isAppendable;
+
+        private Replay(AddressBook addressBook, long generation, int recordCount, boolean isAppendable) {
+            this.addressBook = addressBook;
+            this.generation = generation;
+            this.recordCount = recordCount;
+            this.isAppendable = isAppendable;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        /**
+         * Returns the generation recorded in the address book file, or 0 if it records none.
+         */
+        long getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Returns the number of changes replayed from the journal.
+         */
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Returns true if the journal was read to its end and further changes can be appended to it.
+         */
+        boolean isAppendable() {
+            return isAppendable;
+        }
+    }
+}
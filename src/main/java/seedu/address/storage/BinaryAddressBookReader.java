@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book from a file in the binary format written by {@code BinaryAddressBookWriter}.
+ * Each candidate is validated through {@code JsonAdaptedPerson}, exactly as if it had been read from a JSON file.
+ */
+class BinaryAddressBookReader {
+
+    /** The first four bytes of every file, "RIAB". */
+    static final int MAGIC = 0x52494142;
+    /** The version of the format written. Files of this or any earlier version can be read. */
+    static final int VERSION = 2;
+    /** The first version that holds the notes of all candidates apart from the candidates. */
+    static final int VERSION_NOTES_SECTION = 2;
+    /** No field of a valid candidate comes close to this length, so longer strings mean the file is corrupted. */
+    static final int MAX_STRING_BYTES = 1 << 20;
+
+    static final String MESSAGE_NOT_BINARY_FILE = "File is not a RecruitIntel binary data file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file version %1$d is newer than the supported version %2$d.";
+    static final String MESSAGE_INVALID_LENGTH = "Invalid length or position %1$d in data file.";
+
+    private BinaryAddressBookReader() {}
+
+    /**
+     * Returns the address book stored in {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if any candidate violates the data constraints, or there are duplicates.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = readVarInt(in);
+            if (version > VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, VERSION));
+            }
+
+            int dictionarySize = readVarInt(in);
+            List<String> dictionary = new ArrayList<>();
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary.add(readString(in));
+            }
+
+            byte[] notesSection = null;
+            if (version >= VERSION_NOTES_SECTION) {
+                notesSection = new byte[readVarInt(in)];
+                in.readFully(notesSection);
+            }
+
+            PersonListConverter converter = new PersonListConverter();
+            int notesOffset = 0;
+            int personCount = readVarInt(in);
+            for (int i = 0; i < personCount; i++) {
+                String name = readString(in);
+                String phone = readString(in);
+                String email = readString(in);
+                String address = readString(in);
+                String jobPosition = readEntry(in, dictionary);
+                String team = readEntry(in, dictionary);
+                int tagCount = readVarInt(in);
+                List<JsonAdaptedTag> tags = new ArrayList<>();
+                for (int j = 0; j < tagCount; j++) {
+                    tags.add(new JsonAdaptedTag(readEntry(in, dictionary)));
+                }
+                String notes;
+                if (notesSection == null) {
+                    notes = readString(in);
+                } else {
+                    int notesLength = readVarInt(in);
+                    if (notesLength > notesSection.length - notesOffset) {
+                        throw new IOException(String.format(MESSAGE_INVALID_LENGTH, notesLength));
+                    }
+                    notes = new String(notesSection, notesOffset, notesLength, UTF_8);
+                    notesOffset += notesLength;
+                }
+                String startTime = readString(in);
+                String duration = readString(in);
+
+                converter.add(new JsonAdaptedPerson(name, phone, email, address, jobPosition, team, notes, tags,
+                        startTime, duration));
+            }
+            return converter.toAddressBook();
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, length));
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static String readEntry(DataInputStream in, List<String> dictionary) throws IOException {
+        int position = readVarInt(in);
+        if (position >= dictionary.size()) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, position));
+        }
+        return dictionary.get(position);
+    }
+
+    /**
+     * Reads a non-negative integer written by {@code BinaryAddressBookWriter}.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException(String.format(MESSAGE_INVALID_LENGTH, value));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access RecruitIntel data stored in a compact binary file on the hard disk.
+ * If the file does not exist yet, the address book is imported from a JSON file instead.
+ *
+ * @see BinaryAddressBookWriter
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path importFilePath;
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}, which imports the JSON file at
+     * {@code importFilePath} until the binary file is first saved.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path importFilePath) {
+        super(filePath);
+        requireNonNull(importFilePath);
+        this.importFilePath = importFilePath;
+    }
+
+    /**
+     * Returns the location of the binary file that holds the same address book as the JSON file at
+     * {@code jsonFilePath}, e.g. {@code data/recruitintel.bin} for {@code data/recruitintel.json}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath()) && !Files.exists(filePath)
+                && !Files.exists(FileUtil.getBackupPath(filePath)) && Files.exists(importFilePath)) {
+            logger.info("Importing data file " + importFilePath + " into " + filePath);
+            return new JsonAddressBookStorage(importFilePath).readAddressBook();
+        }
+        return super.readAddressBook(filePath);
+    }
+
+    @Override
+    AddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        return BinaryAddressBookReader.read(filePath);
+    }
+
+    @Override
+    void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        BinaryAddressBookWriter.write(addressBook, filePath);
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a file in the binary format read by {@code BinaryAddressBookReader}.
+ *
+ * The file starts with {@link BinaryAddressBookReader#MAGIC} and the format version. It then holds a dictionary of
+ * the distinct team, job position and tag names, then the notes of all candidates, followed by the candidates. Each
+ * candidate refers to its team, job position and tags by their position in the dictionary, and holds the length of
+ * its notes and its other fields as strings. Strings are written as their length in UTF-8 bytes followed by the
+ * bytes, and all lengths, counts and positions as variable-length integers, so that most take a single byte.
+ *
+ * The position of each candidate's notes in the notes section is the total length of the notes of the candidates
+ * before it. Version 1 files held the notes inline as a string, between the tags and the start time.
+ */
+class BinaryAddressBookWriter {
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing any existing content.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[] notesLengths = new int[persons.size()];
+        long notesSectionLength = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            notesLengths[i] = getUtf8Length(person.getNotes().value);
+            notesSectionLength += notesLengths[i];
+            dictionary.putIfAbsent(person.getTeam().value, dictionary.size());
+            dictionary.putIfAbsent(person.getJobPosition().value, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.writeInt(BinaryAddressBookReader.MAGIC);
+            writeVarInt(out, BinaryAddressBookReader.VERSION);
+
+            writeVarInt(out, dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(out, entry);
+            }
+
+            if (notesSectionLength > Integer.MAX_VALUE) {
+                throw new IOException(String.format(BinaryAddressBookReader.MESSAGE_INVALID_LENGTH,
+                        notesSectionLength));
+            }
+            writeVarInt(out, (int) notesSectionLength);
+            for (Person person : persons) {
+                out.write(person.getNotes().value.getBytes(UTF_8));
+            }
+
+            writeVarInt(out, persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                writeVarInt(out, dictionary.get(person.getJobPosition().value));
+                writeVarInt(out, dictionary.get(person.getTeam().value));
+                Set<Tag> tags = person.getTags();
+                writeVarInt(out, tags.size());
+                for (Tag tag : tags) {
+                    writeVarInt(out, dictionary.get(tag.tagName));
+                }
+                writeVarInt(out, notesLengths[i]);
+                writeString(out, person.getStartTime().value);
+                writeString(out, person.getDuration().value);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes {@code value} takes when encoded in UTF-8, without encoding it.
+     */
+    static int getUtf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // Includes unpaired surrogates, which are encoded as a single replacement character '?'
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} 7 bits at a time, least significant first, setting the high bit of every
+     * byte but the last.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads candidates to be imported into an existing address book from a CSV file, or from a JSON file in the format
+ * of the data file.
+ *
+ * Unlike loading the data file, candidates that are invalid or that duplicate an earlier one in the file are left out
+ * and reported rather than failing the whole file. Only a file that cannot be read at all fails. Candidates are
+ * validated in parallel, see {@link PersonListConverter}.
+ *
+ * A CSV file starts with a header row naming its columns, in any order, out of {@link #CSV_COLUMNS}. Values
+ * containing commas, quotes or line breaks are quoted, with quotes inside them doubled. Tags are separated by
+ * {@value #CSV_TAG_SEPARATOR}, and an empty value leaves an optional field empty.
+ */
+public class CandidateFileReader {
+
+    public static final String CSV_FILE_EXTENSION = ".csv";
+    public static final String CSV_TAG_SEPARATOR = ";";
+    public static final List<String> CSV_COLUMNS = List.of("name", "phone", "email", "address", "jobPosition",
+            "team", "tags", "notes", "startTime", "duration");
+    public static final List<String> CSV_REQUIRED_COLUMNS = CSV_COLUMNS.subList(0, 6);
+
+    static final String MESSAGE_EMPTY_CSV = "The file is empty, expected a header row naming the columns.";
+    static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column \"%1$s\" in the header row. Columns are: %2$s";
+    static final String MESSAGE_DUPLICATE_COLUMN = "Column \"%1$s\" appears more than once in the header row.";
+    static final String MESSAGE_MISSING_COLUMN = "Required column \"%1$s\" is missing from the header row.";
+    static final String MESSAGE_WRONG_VALUE_COUNT = "Expected %1$d values but found %2$d.";
+    static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed before the end of the file.";
+
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    /** Written by some editors, such as Excel when saving as "CSV UTF-8", at the start of the file. */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private CandidateFileReader() {}
+
+    /**
+     * Reads the candidates in {@code filePath}, which is read as CSV if it ends in {@value #CSV_FILE_EXTENSION}
+     * and as JSON otherwise.
+     *
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     */
+    public static Candidates read(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        PersonListConverter converter = new PersonListConverter();
+        try {
+            if (filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(CSV_FILE_EXTENSION)) {
+                readCsv(filePath, converter);
+            } else {
+                JsonAddressBookReader.read(filePath, converter, unused -> {});
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+        return new Candidates(converter.getPersons(), converter.getErrors());
+    }
+
+    private static void readCsv(Path filePath, PersonListConverter converter)
+            throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            skipByteOrderMark(reader);
+            List<String> header = readCsvRecord(reader);
+            if (header == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_CSV);
+            }
+            Map<String, Integer> columnIndexes = indexColumns(header);
+
+            for (List<String> values = readCsvRecord(reader); values != null; values = readCsvRecord(reader)) {
+                if (values.size() == 1 && values.get(0).isEmpty()) {
+                    continue;
+                }
+                if (values.size() != header.size()) {
+                    converter.reject(String.format(MESSAGE_WRONG_VALUE_COUNT, header.size(), values.size()));
+                    continue;
+                }
+                converter.add(toAdaptedPerson(values, columnIndexes));
+            }
+        }
+    }
+
+    /**
+     * Skips the byte order mark at the start of {@code reader}, if there is one.
+     */
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+    }
+
+    /**
+     * Returns the position of each column named in {@code header}.
+     *
+     * @throws IllegalValueException if a column is unknown, repeated, or required but missing.
+     */
+    private static Map<String, Integer> indexColumns(List<String> header) throws IllegalValueException {
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COLUMN, column,
+                        String.join(", ", CSV_COLUMNS)));
+            }
+            if (columnIndexes.putIfAbsent(column, i) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+        }
+        for (String column : CSV_REQUIRED_COLUMNS) {
+            if (!columnIndexes.containsKey(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columnIndexes;
+    }
+
+    private static JsonAdaptedPerson toAdaptedPerson(List<String> values, Map<String, Integer> columnIndexes) {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        String tagNames = getValue(values, columnIndexes, "tags");
+        if (tagNames != null) {
+            Arrays.stream(tagNames.split(CSV_TAG_SEPARATOR))
+                    .map(String::trim)
+                    .filter(tagName -> !tagName.isEmpty())
+                    .forEach(tagName -> tags.add(new JsonAdaptedTag(tagName)));
+        }
+        return new JsonAdaptedPerson(getValue(values, columnIndexes, "name"),
+                getValue(values, columnIndexes, "phone"), getValue(values, columnIndexes, "email"),
+                getValue(values, columnIndexes, "address"), getValue(values, columnIndexes, "jobPosition"),
+                getValue(values, columnIndexes, "team"), getValue(values, columnIndexes, "notes"), tags,
+                getValue(values, columnIndexes, "startTime"), getValue(values, columnIndexes, "duration"));
+    }
+
+    /**
+     * Returns the trimmed value of {@code column}, or null if the column is absent or its value is empty.
+     */
+    private static String getValue(List<String> values, Map<String, Integer> columnIndexes, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reads the values of the next record from {@code reader}, or returns null at the end of the file.
+     * A record ends at a line break outside quotes, which is either {@code \n} or {@code \r\n}.
+     *
+     * @throws IllegalValueException if a quoted value is not closed.
+     */
+    static List<String> readCsvRecord(BufferedReader reader) throws IOException, IllegalValueException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (; c != -1; c = reader.read()) {
+            if (isQuoted) {
+                if (c != CSV_QUOTE) {
+                    value.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == CSV_QUOTE) {
+                    value.append(CSV_QUOTE);
+                } else {
+                    reader.reset();
+                    isQuoted = false;
+                }
+            } else if (c == CSV_QUOTE) {
+                isQuoted = true;
+            } else if (c == CSV_SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+        }
+
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * The candidates read from a file, split into those that can be imported and those that were left out.
+     */
+    public static class Candidates {
+        private final List<Person> persons;
+        private final List<String> rejections;
+
+        Candidates(List<Person> persons, List<String> rejections) {
+            this.persons = requireNonNull(persons);
+            this.rejections = requireNonNull(rejections);
+        }
+
+        /**
+         * Returns the valid candidates, in the order of the file.
+         */
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Returns why each of the other candidates was left out, in the order of the file.
+         */
+        public List<String> getRejections() {
+            return rejections;
+        }
+    }
+}
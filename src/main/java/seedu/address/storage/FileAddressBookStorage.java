@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access RecruitIntel data stored as a file on the hard disk, in the format implemented by subclasses.
+ * Files are replaced atomically when saved, and restored from their backup if they cannot be loaded.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+
+    public FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file is missing or cannot be loaded but its backup from the previous save can be, the file is restored
+     * from the backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(backupPath)) {
+                return Optional.empty();
+            }
+            logger.warning("Data file " + filePath + " is missing. Recovering it from " + backupPath);
+            return Optional.of(recoverFromBackup(filePath, null));
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            return Optional.of(load(filePath));
+        } catch (DataLoadingException e) {
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            return Optional.of(recoverFromBackup(filePath, e));
+        }
+    }
+
+    private AddressBook load(Path filePath) throws DataLoadingException {
+        try {
+            return readFile(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the address book in the backup of {@code filePath}, and restores the file from the backup.
+     *
+     * @param cause the error loading {@code filePath}, or null if it is missing.
+     * @throws DataLoadingException if the backup cannot be loaded either.
+     */
+    private AddressBook recoverFromBackup(Path filePath, DataLoadingException cause) throws DataLoadingException {
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        AddressBook addressBook;
+        try {
+            addressBook = load(backupPath);
+        } catch (DataLoadingException e) {
+            throw cause == null ? e : cause;
+        }
+
+        try {
+            FileUtil.restoreFromBackup(filePath);
+            logger.warning("Restored " + filePath + " from " + backupPath);
+        } catch (IOException e) {
+            logger.warning("Could not restore " + filePath + " from " + backupPath + ": " + e);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, tempFilePath -> writeFile(addressBook, tempFilePath));
+    }
+
+    /**
+     * Returns the address book in the existing file {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if any candidate violates the data constraints, or there are duplicates.
+     */
+    abstract AddressBook readFile(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} to the new file {@code filePath}.
+     */
+    abstract void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access RecruitIntel data stored as a json file on the hard disk, together with a journal of the changes
+ * made since the file was last written in full.
+ *
+ * Saving appends only the candidates that were added, removed or edited since the previous save to the
+ * {@link AddressBookJournal}, so its cost depends on the size of the change rather than of the address book.
+ * Once the journal holds {@code compactionThreshold} changes, or a save changes too many candidates to be worth
+ * journaling (e.g. sorting), the file is rewritten in full and the journal is started afresh.
+ * Reading the file replays its journal.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+    public static final String MESSAGE_INVALID_COMPACTION_THRESHOLD = "Compaction threshold must be positive";
+
+    /** Saves that change more candidates than this rewrite the file instead of appending to the journal. */
+    static final int MAX_RECORDS_PER_SAVE = 1_000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final int compactionThreshold;
+    private final AddressBookJournal journal;
+
+    /** The generation of the file and journal, as recorded in the file. */
+    private long generation;
+    private int journalRecordCount;
+    /** The candidates as last read or saved, or null if the next save must rewrite the file. */
+    private List<Person> savedPersons;
+
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that rewrites the file once its journal holds
+     * {@code compactionThreshold} changes.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted, int compactionThreshold) {
+        super(filePath, isPrettyPrinted);
+        checkArgument(compactionThreshold > 0, MESSAGE_INVALID_COMPACTION_THRESHOLD);
+        this.compactionThreshold = compactionThreshold;
+        journal = new AddressBookJournal(AddressBookJournal.getJournalPath(filePath));
+    }
+
+    @Override
+    synchronized AddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        AddressBookJournal.Replay replay = AddressBookJournal.readAndReplay(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            journal.close();
+            generation = replay.getGeneration();
+            journalRecordCount = replay.getRecordCount();
+            savedPersons = replay.isAppendable() ? new ArrayList<>(replay.getAddressBook().getPersonList()) : null;
+        }
+        return replay.getAddressBook();
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}. Only saves to this storage's own file are journaled; the
+     * address book is written in full to any other file.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<List<JsonAdaptedJournalRecord>> records = savedPersons == null
+                ? Optional.empty()
+                : diff(savedPersons, persons);
+        // Until this save succeeds, the journal may hold only some of its records
+        savedPersons = null;
+        if (records.isEmpty() || journalRecordCount + records.get().size() > compactionThreshold) {
+            compact(addressBook);
+        } else if (!records.get().isEmpty()) {
+            journal.append(records.get());
+            journalRecordCount += records.get().size();
+        }
+        savedPersons = new ArrayList<>(persons);
+    }
+
+    /**
+     * Rewrites the file in full for the next generation and starts a new journal for it.
+     * The file is replaced atomically, so a crash leaves either the old file and its journal, or the new file and a
+     * journal of an older generation, which is ignored.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        // Generations are never reused, even after the file was rewritten by JsonAddressBookStorage in between,
+        // so that a journal left behind by an earlier generation can never match the new file
+        long nextGeneration = Math.max(generation + 1, System.currentTimeMillis());
+
+        FileUtil.writeAtomically(filePath, tempFilePath ->
+                JsonAddressBookWriter.write(addressBook, tempFilePath, isPrettyPrinted(), nextGeneration));
+
+        generation = nextGeneration;
+        journal.start(generation);
+        journalRecordCount = 0;
+        logger.fine("Compacted " + filePath + " to generation " + generation);
+    }
+
+    /**
+     * Returns the changes that turn {@code saved} into {@code current}, or an empty {@code Optional} if there are
+     * more than {@link #MAX_RECORDS_PER_SAVE} of them.
+     *
+     * Candidates are immutable, so they are compared by identity. The candidates between the longest common prefix
+     * and suffix of the two lists are recorded as removed and then re-added, except that a single replaced candidate
+     * is recorded as one edit. Replaying any prefix of the changes therefore never produces duplicates.
+     */
+    static Optional<List<JsonAdaptedJournalRecord>> diff(List<Person> saved, List<Person> current) {
+        int commonSize = Math.min(saved.size(), current.size());
+        int prefix = 0;
+        while (prefix < commonSize && saved.get(prefix) == current.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonSize - prefix
+                && saved.get(saved.size() - 1 - suffix) == current.get(current.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int removedCount = saved.size() - prefix - suffix;
+        int addedCount = current.size() - prefix - suffix;
+        if (removedCount == 1 && addedCount == 1) {
+            return Optional.of(List.of(JsonAdaptedJournalRecord.set(prefix, current.get(prefix))));
+        }
+        if (removedCount + addedCount > MAX_RECORDS_PER_SAVE) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(removedCount + addedCount);
+        for (int i = 0; i < removedCount; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(prefix));
+        }
+        for (int i = prefix; i < prefix + addedCount; i++) {
+            records.add(JsonAdaptedJournalRecord.add(i, current.get(i)));
+        }
+        return Optional.of(records);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Team;
+
+/**
+ * Jackson-friendly version of one change recorded in an {@link AddressBookJournal}: a candidate added at, removed
+ * from, or replaced at a position of the candidate list.
+ */
+class JsonAdaptedJournalRecord {
+
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_REMOVE = "remove";
+    static final String OPERATION_SET = "set";
+
+    static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %1$s";
+    static final String MESSAGE_INVALID_INDEX = "Journal refers to position %1$d of a list of %2$d candidates.";
+    static final String MESSAGE_MISSING_PERSON = "Journal operation %1$s has no candidate.";
+
+    private final String op;
+    private final int index;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record of {@code person} being added at {@code index}.
+     */
+    static JsonAdaptedJournalRecord add(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the candidate at {@code index} being removed.
+     */
+    static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, index, null);
+    }
+
+    /**
+     * Returns a record of the candidate at {@code index} being replaced by {@code person}.
+     */
+    static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_SET, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Applies the recorded change to {@code addressBook}, sharing the {@code Team} and {@code JobPosition} instances
+     * in {@code teams} and {@code jobPositions}.
+     *
+     * @throws IllegalValueException if the record is invalid, or does not fit {@code addressBook}.
+     */
+    void applyTo(AddressBook addressBook, Map<String, Team> teams, Map<String, JobPosition> jobPositions)
+            throws IllegalValueException {
+        List<Person> persons = addressBook.getPersonList();
+        switch (op == null ? "" : op) {
+        case OPERATION_ADD:
+            checkIndex(index, persons.size() + 1);
+            Person added = toPerson(teams, jobPositions);
+            if (addressBook.hasPerson(added)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(index, added);
+            return;
+        case OPERATION_REMOVE:
+            checkIndex(index, persons.size());
+            addressBook.removePerson(persons.get(index));
+            return;
+        case OPERATION_SET:
+            checkIndex(index, persons.size());
+            Person target = persons.get(index);
+            Person edited = toPerson(teams, jobPositions);
+            if (!target.isSamePerson(edited) && addressBook.hasPerson(edited)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.setPerson(target, edited);
+            return;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private Person toPerson(Map<String, Team> teams, Map<String, JobPosition> jobPositions)
+            throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, op));
+        }
+        return person.toModelType(teams, jobPositions);
+    }
+
+    private static void checkIndex(int index, int size) throws IllegalValueException {
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index, size));
+        }
+    }
+}
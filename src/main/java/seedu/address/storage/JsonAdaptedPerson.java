@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -88,14 +90,25 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, reusing the
+     * {@code Team} and {@code JobPosition} in {@code teams} and {@code jobPositions} and recording new ones there.
+     * Persons converted with the same dictionaries share these instances instead of each holding a copy.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(Map<String, Team> teams, Map<String, JobPosition> jobPositions) throws IllegalValueException {
         final List<Tag> personTags = convertTags();
 
         final Name modelName = validateAndCreateName();
         final Phone modelPhone = validateAndCreatePhone();
         final Email modelEmail = validateAndCreateEmail();
         final Address modelAddress = validateAndCreateAddress();
-        final JobPosition modelJobPosition = validateAndCreateJobPosition();
-        final Team modelTeam = validateAndCreateTeam();
+        final JobPosition modelJobPosition = validateAndCreateJobPosition(jobPositions);
+        final Team modelTeam = validateAndCreateTeam(teams);
 
         // Optional fields with default empty values
         final StartTime modelStartTime = validateAndCreateStartTime();
@@ -171,31 +184,45 @@ class JsonAdaptedPerson {
     }
 
     /**
-     * Validates and creates a JobPosition object.
+     * Validates and creates a JobPosition object, or returns the one already in {@code jobPositions}.
      */
-    private JobPosition validateAndCreateJobPosition() throws IllegalValueException {
+    private JobPosition validateAndCreateJobPosition(Map<String, JobPosition> jobPositions)
+            throws IllegalValueException {
         if (jobPosition == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     JobPosition.class.getSimpleName()));
         }
+        JobPosition existingJobPosition = jobPositions.get(jobPosition);
+        if (existingJobPosition != null) {
+            return existingJobPosition;
+        }
         if (!JobPosition.isValidJobPosition(jobPosition)) {
             throw new IllegalValueException(JobPosition.MESSAGE_CONSTRAINTS);
         }
-        return new JobPosition(jobPosition);
+        // Another thread converting the same dictionaries may have added one meanwhile
+        JobPosition modelJobPosition = new JobPosition(jobPosition);
+        existingJobPosition = jobPositions.putIfAbsent(jobPosition, modelJobPosition);
+        return existingJobPosition != null ? existingJobPosition : modelJobPosition;
     }
 
     /**
-     * Validates and creates a Team object.
+     * Validates and creates a Team object, or returns the one already in {@code teams}.
      */
-    private Team validateAndCreateTeam() throws IllegalValueException {
+    private Team validateAndCreateTeam(Map<String, Team> teams) throws IllegalValueException {
         if (team == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Team.class.getSimpleName()));
         }
+        Team existingTeam = teams.get(team);
+        if (existingTeam != null) {
+            return existingTeam;
+        }
         if (!Team.isValidTeam(team)) {
             throw new IllegalValueException(Team.MESSAGE_CONSTRAINTS);
         }
-        return new Team(team);
+        Team modelTeam = new Team(team);
+        existingTeam = teams.putIfAbsent(team, modelTeam);
+        return existingTeam != null ? existingTeam : modelTeam;
     }
 
     private StartTime validateAndCreateStartTime() throws IllegalValueException {
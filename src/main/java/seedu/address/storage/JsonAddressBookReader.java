@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book from a JSON file in the format written for {@code JsonSerializableAddressBook}, converting
+ * the candidates to {@code Person}s in batches as they are parsed. Only one batch of {@code JsonAdaptedPerson}s is
+ * held at a time, and the file content is never held in memory as a whole.
+ *
+ * @see PersonListConverter
+ */
+class JsonAddressBookReader {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String JOURNAL_GENERATION_FIELD = "journalGeneration";
+    static final String MESSAGE_MISSING_PERSONS = "Address book file does not contain a \"persons\" list.";
+    static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %1$s but found %2$s.";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Returns the address book stored in {@code filePath}. Fields other than the list of persons are ignored.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if any candidate violates the data constraints, or there are duplicates.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, journalGeneration -> {});
+    }
+
+    /**
+     * Returns the address book stored in {@code filePath}, like {@link #read(Path)}, and passes the journal
+     * generation recorded in the file, if any, to {@code journalGenerationConsumer}.
+     *
+     * @see AddressBookJournal
+     */
+    static AddressBook read(Path filePath, LongConsumer journalGenerationConsumer)
+            throws IOException, IllegalValueException {
+        PersonListConverter converter = new PersonListConverter();
+        read(filePath, converter, journalGenerationConsumer);
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Adds every candidate stored in {@code filePath}, in order, to {@code converter}, and passes the journal
+     * generation recorded in the file, if any, to {@code journalGenerationConsumer}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     */
+    static void read(Path filePath, PersonListConverter converter, LongConsumer journalGenerationConsumer)
+            throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            boolean hasPersons = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName)) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    readPersons(parser, converter);
+                    hasPersons = true;
+                } else if (JOURNAL_GENERATION_FIELD.equals(fieldName)) {
+                    expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    journalGenerationConsumer.accept(parser.getLongValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+            if (!hasPersons) {
+                throw new JsonParseException(parser, MESSAGE_MISSING_PERSONS);
+            }
+        }
+    }
+
+    /**
+     * Reads the elements of the array that {@code parser} has just entered, up to and including its end.
+     */
+    private static void readPersons(JsonParser parser, PersonListConverter converter) throws IOException {
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            converter.add(JsonUtil.fromJsonParser(parser, JsonAdaptedPerson.class));
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format(MESSAGE_UNEXPECTED_TOKEN, expected, actual));
+        }
+    }
+}
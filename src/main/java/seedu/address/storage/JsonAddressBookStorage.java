@@ -1,80 +1,48 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access RecruitIntel data stored as a json file on the hard disk.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
-
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
-    private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
-    }
-
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+        this(filePath, true);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * Creates a storage for the file at {@code filePath}, which is written indented for readability if
+     * {@code isPrettyPrinted} is true, or compactly otherwise.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        super(filePath);
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
-    @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    boolean isPrettyPrinted() {
+        return isPrettyPrinted;
     }
 
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
+     * Returns the address book in the existing file {@code filePath}, with any changes recorded in its journal by
+     * {@link JournaledAddressBookStorage} replayed, so that no changes are lost when switching back to this storage.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
+    @Override
+    AddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        return AddressBookJournal.readAndReplay(filePath).getAddressBook();
+    }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    @Override
+    void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonAddressBookWriter.write(addressBook, filePath, isPrettyPrinted);
     }
 
 }
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book to a JSON file in the format read by {@code JsonAddressBookReader}, converting each
+ * candidate to JSON as it is written. Only one {@code JsonAdaptedPerson} is held at a time, and the file content is
+ * never held in memory as a whole.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing any existing content.
+     *
+     * @param isPrettyPrinted whether the file is indented for readability.
+     * @throws IOException if the file could not be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted) throws IOException {
+        write(addressBook, filePath, isPrettyPrinted, 0);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, like {@link #write(ReadOnlyAddressBook, Path, boolean)}, and
+     * records {@code journalGeneration} in the file if it is positive.
+     *
+     * @see AddressBookJournal
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted, long journalGeneration)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(
+                new BufferedOutputStream(Files.newOutputStream(filePath)), isPrettyPrinted)) {
+            generator.writeStartObject();
+            if (journalGeneration > 0) {
+                generator.writeNumberField(JsonAddressBookReader.JOURNAL_GENERATION_FIELD, journalGeneration);
+            }
+            generator.writeArrayFieldStart(JsonAddressBookReader.PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.toJsonGenerator(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -41,20 +40,16 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts this RecruitIntel into the model's {@code AddressBook} object.
+     * Converts this RecruitIntel into the model's {@code AddressBook} object, validating the candidates in parallel.
+     * Candidates with the same team or job position share a single instance of it.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid candidate.
+     * @see PersonListConverter
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        return addressBook;
+        PersonListConverter converter = new PersonListConverter();
+        persons.forEach(converter::add);
+        return converter.toAddressBook();
     }
 
 }
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Team;
+
+/**
+ * Converts the candidates read from a data file, in order, into an {@code AddressBook}.
+ *
+ * Candidates are collected into batches, and each batch is validated and converted across the common fork-join pool
+ * before its candidates are added to the address book one by one, checking for duplicates by their identity.
+ * Invalid and duplicate candidates do not stop the conversion, so that all of them can be counted and reported, each
+ * with its position in the file. Only one batch of adapted candidates is held at a time.
+ */
+class PersonListConverter {
+
+    /** Large enough for the parallel conversion to outweigh its overhead, small enough to bound the memory held. */
+    static final int BATCH_SIZE = 4096;
+
+    static final String MESSAGE_INVALID_PERSON = "Candidate %1$d: %2$s";
+    static final String MESSAGE_INVALID_PERSONS = "%1$d invalid candidate(s) in the data file:\n%2$s";
+    static final String MESSAGE_MORE_INVALID_PERSONS = "\n... and %1$d more.";
+
+    /** Invalid candidates beyond this number are only counted in the load failure, to keep it readable. */
+    static final int MAX_REPORTED_ERRORS = 50;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<String, Team> teams = new ConcurrentHashMap<>();
+    private final Map<String, JobPosition> jobPositions = new ConcurrentHashMap<>();
+    private final List<JsonAdaptedPerson> batch = new ArrayList<>();
+    private final List<String> batchRejections = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int convertedCount = 0;
+
+    /**
+     * Adds {@code person} as the next candidate.
+     */
+    void add(JsonAdaptedPerson person) {
+        add(person, null);
+    }
+
+    /**
+     * Rejects the next candidate for {@code reason}, e.g. because it could not even be read, so that it is reported
+     * at its position among the others.
+     */
+    void reject(String reason) {
+        add(null, requireNonNull(reason));
+    }
+
+    private void add(JsonAdaptedPerson person, String rejection) {
+        batch.add(person);
+        batchRejections.add(rejection);
+        if (batch.size() >= BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Returns the valid candidates added, in order, leaving out those that are invalid or duplicates.
+     */
+    List<Person> getPersons() {
+        convertBatch();
+        return addressBook.getPersonList();
+    }
+
+    /**
+     * Returns a description of every candidate left out of {@link #getPersons()}, with its position, in order.
+     */
+    List<String> getErrors() {
+        convertBatch();
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the address book of all the candidates added.
+     *
+     * @throws IllegalValueException if any candidate violates the data constraints or duplicates an earlier one,
+     *     counting all such candidates and listing the first {@value #MAX_REPORTED_ERRORS} by their positions,
+     *     starting from 1.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        convertBatch();
+        if (!errors.isEmpty()) {
+            String reported = String.join("\n", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+            String message = String.format(MESSAGE_INVALID_PERSONS, errors.size(), reported);
+            if (errors.size() > MAX_REPORTED_ERRORS) {
+                message += String.format(MESSAGE_MORE_INVALID_PERSONS, errors.size() - MAX_REPORTED_ERRORS);
+            }
+            throw new IllegalValueException(message);
+        }
+        return addressBook;
+    }
+
+    private void convertBatch() {
+        Person[] persons = new Person[batch.size()];
+        String[] invalidReasons = new String[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            if (batch.get(i) == null) {
+                invalidReasons[i] = batchRejections.get(i);
+                return;
+            }
+            try {
+                persons[i] = batch.get(i).toModelType(teams, jobPositions);
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                invalidReasons[i] = e.getMessage();
+            }
+        });
+
+        for (int i = 0; i < persons.length; i++) {
+            int position = convertedCount + i + 1;
+            if (persons[i] == null) {
+                errors.add(String.format(MESSAGE_INVALID_PERSON, position, invalidReasons[i]));
+            } else if (addressBook.hasPerson(persons[i])) {
+                errors.add(String.format(MESSAGE_INVALID_PERSON, position,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            } else {
+                addressBook.addPerson(persons[i]);
+            }
+        }
+        convertedCount += persons.length;
+        batch.clear();
+        batchRejections.clear();
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.JOB_POSITION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.JOB_POSITION_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.TEAM_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TEAM_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + JOB_POSITION_DESC_AMY + TEAM_DESC_AMY;
+    private static final String ADD_COMMAND_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + JOB_POSITION_DESC_BOB + TEAM_DESC_BOB;
+    private static final String CRASHING_COMMAND = "crash";
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+    /** The number of saves that throw the exception given to {@link #createLogic(IOException)}. */
+    private int failingSaveCount = Integer.MAX_VALUE;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(createLogic(null), -1));
+    }
+
+    @Test
+    public void run_validCommands_allExecutedAndSavedOnce() throws Exception {
+        BatchRunner runner = new BatchRunner(createLogic(null), 0);
+
+        assertTrue(run(runner, "# Candidates from the job fair\n" + ADD_COMMAND_AMY + "\n\n  " + ADD_COMMAND_BOB));
+        assertEquals(1, saved.size());
+        assertEquals(2, saved.get(0).getPersonList().size());
+
+        List<String> results = getResultLines();
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).startsWith("[1] OK: "));
+        assertTrue(results.get(1).startsWith("[2] OK: "));
+        assertTrue(getLastOutputLine().startsWith("2 command(s), 0 failed"));
+    }
+
+    @Test
+    public void run_invalidCommand_laterCommandsStillExecuted() throws Exception {
+        BatchRunner runner = new BatchRunner(createLogic(null), 0);
+
+        assertFalse(run(runner, "unknown\n" + ADD_COMMAND_AMY + "\n" + ADD_COMMAND_AMY));
+        assertEquals(1, saved.get(0).getPersonList().size());
+
+        List<String> results = getResultLines();
+        assertTrue(results.get(0).startsWith("[1] ERROR: "));
+        assertTrue(results.get(1).startsWith("[2] OK: "));
+        assertTrue(results.get(2).startsWith("[3] ERROR: "));
+        assertTrue(getLastOutputLine().startsWith("3 command(s), 2 failed"));
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_countedAsFailureAndLaterCommandsExecuted() throws Exception {
+        LogicManager logic = new LogicManager(new ModelManager(), createStorage(null), false) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals(CRASHING_COMMAND)) {
+                    throw new IllegalArgumentException("crash");
+                }
+                return super.execute(commandText);
+            }
+        };
+        BatchRunner runner = new BatchRunner(logic, 0);
+
+        assertFalse(run(runner, ADD_COMMAND_AMY + "\n" + CRASHING_COMMAND + "\n" + ADD_COMMAND_BOB));
+        assertEquals(2, saved.get(0).getPersonList().size());
+
+        List<String> results = getResultLines();
+        assertTrue(results.get(1).startsWith("[2] ERROR: "));
+        assertTrue(results.get(2).startsWith("[3] OK: "));
+        assertTrue(getLastOutputLine().startsWith("3 command(s), 1 failed"));
+    }
+
+    @Test
+    public void run_saveInterval_savedAfterEveryIntervalAndAtEnd() throws Exception {
+        BatchRunner runner = new BatchRunner(createLogic(null), 2);
+
+        assertTrue(run(runner, ADD_COMMAND_AMY + "\nlist\n" + ADD_COMMAND_BOB));
+        // The list command changes nothing, so the second interval has nothing to save until the end
+        assertEquals(2, saved.size());
+        assertEquals(1, saved.get(0).getPersonList().size());
+        assertEquals(2, saved.get(1).getPersonList().size());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotExecuted() throws Exception {
+        BatchRunner runner = new BatchRunner(createLogic(null), 0);
+
+        assertTrue(run(runner, ADD_COMMAND_AMY + "\n" + ExitCommand.COMMAND_WORD + "\n" + ADD_COMMAND_BOB));
+        assertEquals(1, saved.get(0).getPersonList().size());
+        assertEquals(2, getResultLines().size());
+        assertTrue(getLastOutputLine().startsWith("2 command(s), 0 failed"));
+    }
+
+    @Test
+    public void run_saveFails_failureReported() throws Exception {
+        BatchRunner runner = new BatchRunner(createLogic(new AccessDeniedException("recruitintel.json")), 0);
+
+        assertFalse(run(runner, ADD_COMMAND_AMY));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Could not save the address book: "));
+    }
+
+    @Test
+    public void run_earlierSaveFailsButLastSucceeds_failureReportedAndRunSuccessful() throws Exception {
+        failingSaveCount = 1;
+        BatchRunner runner = new BatchRunner(createLogic(new AccessDeniedException("recruitintel.json")), 1);
+
+        assertTrue(run(runner, ADD_COMMAND_AMY + "\n" + ADD_COMMAND_BOB));
+        // The failed save is retried with the next one, which writes both candidates
+        assertEquals(2, saved.get(saved.size() - 1).getPersonList().size());
+        assertEquals(1, output.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.startsWith("Could not save the address book: ")).count());
+    }
+
+    private boolean run(BatchRunner runner, String commands) throws IOException {
+        return runner.run(new BufferedReader(new StringReader(commands)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the first line of the result of each command, as feedback may span several lines.
+     */
+    private List<String> getResultLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().filter(line -> line.matches("\\[\\d+\\] .*"))
+                .toList();
+    }
+
+    private String getLastOutputLine() {
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        return lines.get(lines.size() - 1);
+    }
+
+    /**
+     * Returns a {@code LogicManager} that records each address book it saves, or throws {@code saveException}
+     * instead for the first {@link #failingSaveCount} saves if it is not null.
+     */
+    private LogicManager createLogic(IOException saveException) {
+        return new LogicManager(new ModelManager(), createStorage(saveException), false);
+    }
+
+    private StorageManager createStorage(IOException saveException) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                testFolder.resolve("recruitintel.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveException != null && failingSaveCount > 0) {
+                    failingSaveCount--;
+                    throw saveException;
+                }
+                saved.add(addressBook);
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static final List<String> ITEMS = List.of("a", "b", "c", "d", "e", "f");
+
+    @Test
+    public void range_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexSelection.range(Index.fromOneBased(3),
+                Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void union_empty_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexSelection.union(List.of()));
+    }
+
+    @Test
+    public void union_overlappingAndAdjacentRanges_merged() {
+        IndexSelection selection = IndexSelection.union(List.of(range(5, 6), IndexSelection.of(Index.fromOneBased(1)),
+                range(2, 3), IndexSelection.of(Index.fromOneBased(3))));
+
+        assertEquals(range(1, 3).toString() + ",5-6", selection.toString());
+        assertEquals(List.of("a", "b", "c", "e", "f"), selection.select(ITEMS));
+        assertEquals(IndexSelection.union(List.of(range(1, 3), range(5, 6))), selection);
+    }
+
+    @Test
+    public void union_withAll_selectsAll() {
+        assertEquals(IndexSelection.all(), IndexSelection.union(List.of(range(1, 2), IndexSelection.all())));
+    }
+
+    @Test
+    public void getSingleIndex() {
+        assertEquals(Optional.of(Index.fromOneBased(2)), IndexSelection.of(Index.fromOneBased(2)).getSingleIndex());
+        assertEquals(Optional.empty(), range(1, 2).getSingleIndex());
+        assertEquals(Optional.empty(), IndexSelection.all().getSingleIndex());
+    }
+
+    @Test
+    public void isWithin() {
+        assertTrue(range(1, 6).isWithin(ITEMS.size()));
+        assertFalse(range(1, 7).isWithin(ITEMS.size()));
+        assertTrue(IndexSelection.all().isWithin(0));
+    }
+
+    @Test
+    public void select() {
+        assertEquals(ITEMS, IndexSelection.all().select(ITEMS));
+        assertEquals(List.of("b", "c", "d"), range(2, 4).select(ITEMS));
+        assertThrows(IndexOutOfBoundsException.class, () -> range(6, 7).select(ITEMS));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = range(1, 3);
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // same values -> returns true
+        assertTrue(selection.equals(range(1, 3)));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different type -> returns false
+        assertFalse(selection.equals(Index.fromOneBased(1)));
+
+        // different indexes -> returns false
+        assertFalse(selection.equals(range(1, 4)));
+        assertFalse(selection.equals(IndexSelection.all()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("all", IndexSelection.all().toString());
+        assertEquals("1-50,72,90", IndexSelection.union(List.of(range(1, 50), range(72, 72), range(90, 90)))
+                .toString());
+    }
+
+    private static IndexSelection range(int first, int last) {
+        return IndexSelection.range(Index.fromOneBased(first), Index.fromOneBased(last));
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,61 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
+    @Test
+    public void toSearchKey_validInputs_correctResult() {
+        assertEquals("", StringUtil.toSearchKey("")); // Boundary case
+        assertEquals("software engineer", StringUtil.toSearchKey("Software ENGINEER"));
+
+        // Case folding beyond lower-casing
+        assertEquals("strasse", StringUtil.toSearchKey("Straße"));
+        assertEquals(StringUtil.toSearchKey("STRASSE"), StringUtil.toSearchKey("straße"));
+
+        // Compatibility normalisation, e.g. full-width letters
+        assertEquals("abc", StringUtil.toSearchKey("ＡＢＣ"));
+
+        // Already a search key -> same instance
+        String searchKey = "python";
+        assertSame(searchKey, StringUtil.toSearchKey(searchKey));
+    }
+
+    @Test
+    public void containsAnySearchKey() {
+        assertTrue(StringUtil.containsAnySearchKey("software engineer", List.of("data", "engine")));
+        assertFalse(StringUtil.containsAnySearchKey("software engineer", List.of("data")));
+        assertFalse(StringUtil.containsAnySearchKey("software engineer", List.of())); // Boundary case
+    }
+
+    //---------------- Tests for isSubstringRefinementIgnoreCase --------------------------------------
+
+    @Test
+    public void isSubstringRefinementIgnoreCase_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isSubstringRefinementIgnoreCase(null, List.of()));
+        assertThrows(NullPointerException.class, () -> StringUtil.isSubstringRefinementIgnoreCase(List.of(), null));
+    }
+
+    @Test
+    public void isSubstringRefinementIgnoreCase_validInputs_correctResult() {
+        // Longer keyword containing a broader keyword, different upper/lower case letters
+        assertTrue(StringUtil.isSubstringRefinementIgnoreCase(List.of("Python"), List.of("pyth")));
+        assertTrue(StringUtil.isSubstringRefinementIgnoreCase(List.of("python"), List.of("PYTHON", "java")));
+
+        // Fewer alternatives are narrower
+        assertTrue(StringUtil.isSubstringRefinementIgnoreCase(List.of("java"), List.of("python", "java")));
+        assertTrue(StringUtil.isSubstringRefinementIgnoreCase(List.of(), List.of("python"))); // Boundary case
+
+        // Keyword not covered by any broader keyword
+        assertFalse(StringUtil.isSubstringRefinementIgnoreCase(List.of("pyth"), List.of("python")));
+        assertFalse(StringUtil.isSubstringRefinementIgnoreCase(List.of("python", "java"), List.of("python")));
+        assertFalse(StringUtil.isSubstringRefinementIgnoreCase(List.of("python"), List.of()));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
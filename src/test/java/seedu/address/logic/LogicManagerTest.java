@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -15,6 +16,9 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +26,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -38,6 +45,10 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final RuntimeException DUMMY_RUNTIME_EXCEPTION =
+            new IllegalStateException("dummy runtime exception");
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + JOB_POSITION_DESC_AMY + TEAM_DESC_AMY + TAG_DESC_FRIEND;
 
     @TempDir
     public Path temporaryFolder;
@@ -73,17 +84,74 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_storageThrowsRuntimeException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_RUNTIME_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_RUNTIME_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_readOnlyCommands_doNotSave() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        LogicManager logicManager = new LogicManager(model, createRecordingStorage(saved), 0);
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(FindCommand.COMMAND_WORD + " amy");
+        logicManager.save();
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void execute_burstOfChanges_savedByOneWrite() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        LogicManager logicManager = new LogicManager(model, createRecordingStorage(saved), Long.MAX_VALUE);
+
+        logicManager.execute(ADD_COMMAND_AMY);
+        logicManager.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logicManager.execute(ADD_COMMAND_AMY);
+        logicManager.save();
+        assertEquals(1, saved.size());
+        assertEquals(List.of(AMY), saved.get(0).getPersonList());
+    }
+
+    @Test
+    public void execute_changeAfterSave_savedAgainWithoutAffectingEarlierSnapshot() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        LogicManager logicManager = new LogicManager(model, createRecordingStorage(saved), 0);
+
+        logicManager.execute(ADD_COMMAND_AMY);
+        logicManager.save();
+        logicManager.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logicManager.save();
+        assertEquals(2, saved.size());
+        assertEquals(List.of(AMY), saved.get(0).getPersonList());
+        assertEquals(List.of(), saved.get(1).getPersonList());
+    }
+
+    @Test
+    public void close_unsavedChange_written() throws Exception {
+        Path filePath = temporaryFolder.resolve("closed.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Long.MAX_VALUE);
+
+        logic.execute(ADD_COMMAND_AMY);
+        logic.close();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -143,20 +211,24 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Tests the Logic component's handling of an {@code IOException} or {@code RuntimeException} thrown by the
+     * Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(Exception e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // Inject LogicManager with an AddressBookStorage that throws the exception e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
                     throws IOException {
-                throw e;
+                if (e instanceof IOException) {
+                    throw (IOException) e;
+                }
+                throw (RuntimeException) e;
             }
         };
 
@@ -164,15 +236,36 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        // The write only starts when saved explicitly, so that it fails exactly once
+        LogicManager logicManager = new LogicManager(model, storage, Long.MAX_VALUE);
+        List<String> reportedMessages = new CopyOnWriteArrayList<>();
+        logicManager.setSaveFailureHandler(reportedMessages::add);
+
+        // Triggers the saveAddressBook method by executing an add command, which still succeeds
+        CommandResult result = logicManager.execute(ADD_COMMAND_AMY);
+        logicManager.save();
 
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + JOB_POSITION_DESC_AMY + TEAM_DESC_AMY
-                + TAG_DESC_FRIEND;
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                result.getFeedbackToUser());
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), reportedMessages);
+    }
+
+    /**
+     * Returns a storage that records every address book it is asked to save, instead of writing it.
+     */
+    private StorageManager createRecordingStorage(List<ReadOnlyAddressBook> saved) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("recruitintel.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                saved.add(addressBook);
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
     }
 }
@@ -8,11 +8,17 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -79,6 +85,52 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_multipleIndexes_deletedAsOneChange() throws Exception {
+        IndexSelection targets = IndexSelection.union(List.of(IndexSelection.of(INDEX_THIRD_PERSON),
+                IndexSelection.range(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+        List<Person> personsToDelete = model.getFilteredPersonList().subList(0, 3);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+
+        assertCommandSuccess(new DeleteCommand(targets), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3), expectedModel);
+
+        model.undo();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_allFilteredList_deletesOnlyShownPersons() {
+        Predicate<Person> isNotBenson = person -> !person.isSamePerson(BENSON);
+        model.updateFilteredPersonList(isNotBenson);
+        List<Person> personsToDelete = List.copyOf(model.getFilteredPersonList());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+        expectedModel.updateFilteredPersonList(isNotBenson);
+
+        assertCommandSuccess(new DeleteCommand(IndexSelection.all()), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()), expectedModel);
+        assertEquals(List.of(BENSON), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_someIndexesOutOfBounds_throwsCommandExceptionAndDeletesNone() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(IndexSelection.range(INDEX_FIRST_PERSON, outOfBoundIndex));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_allWithNoPersonShown_throwsCommandException() {
+        showNoPerson(model);
+
+        assertCommandFailure(new DeleteCommand(IndexSelection.all()), model, Messages.MESSAGE_NO_PERSONS_DISPLAYED);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -105,7 +157,7 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targets=" + targetIndex.getOneBased() + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
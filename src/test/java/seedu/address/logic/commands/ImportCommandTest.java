@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class ImportCommandTest {
+
+    private static final Path FILE_PATH = Paths.get("candidates.csv");
+    private static final String INVALID_PHONE_REJECTION = "Candidate 1: " + Phone.MESSAGE_CONSTRAINTS;
+
+    @Test
+    public void execute_newCandidates_allImported() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        int count = getTypicalPersons().size();
+        assertCommandSuccess(new ImportCommand(FILE_PATH, getTypicalPersons(), List.of()), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, count, FILE_PATH), expectedModel);
+    }
+
+    @Test
+    public void execute_someCandidatesExist_othersImportedAndAllLeftOutReported() {
+        Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        int count = getTypicalPersons().size();
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, count - 1, FILE_PATH)
+                + String.format(ImportCommand.MESSAGE_REJECTED, 2, INVALID_PHONE_REJECTION + "\n"
+                        + String.format(ImportCommand.MESSAGE_EXISTING_CANDIDATE, ALICE.getEmail()));
+        assertCommandSuccess(new ImportCommand(FILE_PATH, getTypicalPersons(), List.of(INVALID_PHONE_REJECTION)),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_import_undoneAsOneCommand() throws Exception {
+        Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        new ImportCommand(FILE_PATH, getTypicalPersons(), List.of()).execute(model);
+
+        model.undo();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), model.getAddressBook());
+        model.redo();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_manyInvalidCandidates_reportCapped() throws Exception {
+        int invalidCount = ImportCommand.MAX_REPORTED_REJECTIONS + 10;
+        List<String> rejections = new ArrayList<>();
+        for (int i = 1; i <= invalidCount; i++) {
+            rejections.add("Candidate " + i + ": " + Phone.MESSAGE_CONSTRAINTS);
+        }
+        Model model = new ModelManager();
+
+        String feedback = new ImportCommand(FILE_PATH, List.of(AMY), rejections).execute(model).getFeedbackToUser();
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, FILE_PATH)));
+        assertTrue(feedback.contains("Candidate " + ImportCommand.MAX_REPORTED_REJECTIONS + ": "));
+        assertFalse(feedback.contains("Candidate " + (ImportCommand.MAX_REPORTED_REJECTIONS + 1) + ": "));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED, 10)));
+    }
+
+    @Test
+    public void execute_noValidCandidates_throwsCommandException() {
+        String expectedMessage = String.format(ImportCommand.MESSAGE_NOTHING_IMPORTED, FILE_PATH)
+                + String.format(ImportCommand.MESSAGE_REJECTED, 1, INVALID_PHONE_REJECTION);
+        assertCommandFailure(new ImportCommand(FILE_PATH, List.of(), List.of(INVALID_PHONE_REJECTION)),
+                new ModelManager(), expectedMessage);
+    }
+
+    @Test
+    public void execute_allCandidatesExist_throwsCommandException() {
+        Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_NOTHING_IMPORTED, FILE_PATH)
+                + String.format(ImportCommand.MESSAGE_REJECTED, 1,
+                        String.format(ImportCommand.MESSAGE_EXISTING_CANDIDATE, ALICE.getEmail()));
+        assertCommandFailure(new ImportCommand(FILE_PATH, List.of(ALICE), List.of()), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"), List.of(AMY), List.of());
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"), List.of(AMY), List.of());
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"), List.of(AMY), List.of())));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+
+        // different candidates -> returns false
+        assertFalse(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"), List.of(BOB), List.of())));
+
+        // different rejections -> returns false
+        assertFalse(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"), List.of(AMY),
+                List.of(INVALID_PHONE_REJECTION))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(FILE_PATH, List.of(AMY), List.of(INVALID_PHONE_REJECTION));
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + FILE_PATH + ", persons="
+                + List.of(AMY) + ", rejections=" + List.of(INVALID_PHONE_REJECTION) + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+}
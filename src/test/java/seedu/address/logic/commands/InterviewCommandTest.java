@@ -7,11 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -47,6 +52,31 @@ public class InterviewCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_setInterviewForRange_success() {
+        List<Person> persons = List.copyOf(model.getFilteredPersonList().subList(1, 3));
+
+        StartTime startTime = new StartTime("2025-04-01 10:00");
+        Duration duration = new Duration("60");
+
+        List<Person> editedPersons = persons.stream()
+                .map(person -> new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getAddress(), person.getJobPosition(), person.getTeam(), person.getTags(),
+                        person.getNotes(), startTime, duration))
+                .collect(Collectors.toList());
+
+        InterviewCommand command = new InterviewCommand(
+                IndexSelection.range(INDEX_SECOND_PERSON, INDEX_THIRD_PERSON), startTime, duration);
+
+        String expectedMessage = String.format(InterviewCommand.MESSAGE_SET_INTERVIEWS_SUCCESS,
+                2, startTime.value, duration.getDurationInMinutes());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPersons(persons, editedPersons);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -9,9 +10,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -44,6 +49,29 @@ public class NotesCommandTest {
         assertCommandSuccess(notesCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void executeNotesCommand_allShown_addsNotesToEachAsOneChange() throws Exception {
+        List<Person> persons = List.copyOf(model.getFilteredPersonList());
+        List<Person> editedPersons = persons.stream()
+                .map(person -> new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getAddress(), person.getJobPosition(), person.getTeam(), person.getTags(),
+                        new Notes("Rejected"), person.getStartTime(), person.getDuration()))
+                .collect(Collectors.toList());
+
+        NotesCommand notesCommand = new NotesCommand(IndexSelection.all(), new Notes("Rejected"));
+
+        String expectedMessage = String.format(NotesCommand.MESSAGE_ADD_NOTES_TO_PERSONS_SUCCESS,
+                persons.size(), "Rejected");
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPersons(persons, editedPersons);
+
+        assertCommandSuccess(notesCommand, model, expectedMessage, expectedModel);
+
+        model.undo();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void executeNotesCommand_invalidIndexUnfiltered_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.HistoryStatus;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatusCommandTest {
+
+    @Test
+    public void execute_freshModel_reportsEmptyHistory() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String feedback = new StatusCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(StatusCommand.formatHistoryStatus(new HistoryStatus(0, 0,
+                UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT, 0, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES))));
+        assertTrue(feedback.contains("Memory in use: "));
+    }
+
+    @Test
+    public void execute_afterCommit_reportsUndoableState() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePerson(ALICE);
+        model.commit();
+        String feedback = new StatusCommand().execute(model).getFeedbackToUser();
+
+        HistoryStatus status = model.getHistoryStatus();
+        assertEquals(1, status.getUndoableStates());
+        assertTrue(status.getEstimatedBytes() > 0);
+        assertTrue(feedback.startsWith(StatusCommand.formatHistoryStatus(status)));
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("0 B", StatusCommand.formatBytes(0));
+        assertEquals("1023 B", StatusCommand.formatBytes(1023));
+        assertEquals("1.5 KB", StatusCommand.formatBytes(1536));
+        assertEquals("64.0 MB", StatusCommand.formatBytes(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES));
+    }
+
+    @Test
+    public void equals() {
+        StatusCommand statusCommand = new StatusCommand();
+
+        // same object -> returns true
+        assertTrue(statusCommand.equals(statusCommand));
+
+        // same type -> returns true
+        assertTrue(statusCommand.equals(new StatusCommand()));
+
+        // null -> returns false
+        assertFalse(statusCommand.equals(null));
+
+        // different type -> returns false
+        assertFalse(statusCommand.equals(new ListCommand()));
+    }
+}
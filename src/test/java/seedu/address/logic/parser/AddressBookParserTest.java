@@ -7,6 +7,9 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -14,6 +17,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClassifyCommand;
@@ -24,8 +28,10 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatusCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -36,6 +42,9 @@ import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
+    @TempDir
+    public Path testFolder;
+
     private final AddressBookParser parser = new AddressBookParser();
 
     @Test
@@ -93,6 +102,20 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        Path filePath = testFolder.resolve("candidates.csv");
+        Files.writeString(filePath, "name,phone,email,address,jobPosition,team\n", StandardCharsets.UTF_8);
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " " + filePath);
+        assertEquals(new ImportCommand(filePath, List.of(), List.of()), command);
+    }
+
+    @Test
+    public void parseCommand_status() throws Exception {
+        assertTrue(parser.parseCommand(StatusCommand.COMMAND_WORD) instanceof StatusCommand);
+        assertTrue(parser.parseCommand(StatusCommand.COMMAND_WORD + " 3") instanceof StatusCommand);
+    }
+
     @Test
     public void classifyCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("friends", "owesMoney");
@@ -115,6 +138,23 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
 
+    @Test
+    public void parseCommand_multiLineInput_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(ListCommand.COMMAND_WORD + " a\nb"));
+    }
+
+    @Test
+    public void parseCommand_commandRegisteredLater_parsedWithAliases() throws Exception {
+        CommandRegistry commandRegistry = CommandRegistry.createDefault();
+        AddressBookParser customParser = new AddressBookParser(commandRegistry);
+        commandRegistry.register("ls", arguments -> new ListCommand(), "l");
+
+        assertTrue(customParser.parseCommand("ls") instanceof ListCommand);
+        assertTrue(customParser.parseCommand("  l  ") instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ls"));
+    }
+
     @Test
     public void parseCommand_sort() throws Exception {
         SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD);
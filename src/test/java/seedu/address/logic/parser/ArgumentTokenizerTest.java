@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,39 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixTaken() {
+        Prefix t = new Prefix("t/");
+        Prefix tm = new Prefix("tm/");
+        Prefix tmx = new Prefix("tm/x");
+        String argsString = "preamble t/ tag tm/ team tm/xtra tm t/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, t, tm, tmx);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, t, "tag", "");
+        assertArgumentPresent(argMultimap, tm, "team");
+        assertArgumentPresent(argMultimap, tmx, "tra tm");
+    }
+
+    @Test
+    public void split_reusedTokenizer_independentResults() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT);
+
+        ArgumentMultimap first = tokenizer.split("first p/1 -t 2");
+        ArgumentMultimap second = tokenizer.split("second p/3");
+        assertPreamblePresent(first, "first");
+        assertArgumentPresent(first, pSlash, "1");
+        assertArgumentPresent(first, dashT, "2");
+        assertPreamblePresent(second, "second");
+        assertArgumentPresent(second, pSlash, "3");
+        assertArgumentAbsent(second, dashT);
+    }
+
+    @Test
+    public void constructor_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ArgumentTokenizer.MESSAGE_EMPTY_PREFIX, () ->
+                new ArgumentTokenizer(pSlash, new Prefix("")));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<ListCommand> listParser = arguments -> new ListCommand();
+
+    @Test
+    public void createDefault_builtInCommands_parsersReused() {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        assertTrue(registry.getParser(AddCommand.COMMAND_WORD).get() instanceof AddCommandParser);
+        assertSame(registry.getParser(AddCommand.COMMAND_WORD).get(),
+                registry.getParser(AddCommand.COMMAND_WORD).get());
+        assertFalse(registry.getParser("unknownCommand").isPresent());
+    }
+
+    @Test
+    public void register_withAliases_sameParserForAll() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("ls", listParser, "l", "dir");
+        assertSame(listParser, registry.getParser("ls").get());
+        assertSame(listParser, registry.getParser("l").get());
+        assertSame(listParser, registry.getParser("dir").get());
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentExceptionAndRegistersNothing() {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD,
+                ListCommand.COMMAND_WORD), () -> registry.register("ls", listParser, ListCommand.COMMAND_WORD));
+        assertFalse(registry.getParser("ls").isPresent());
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register("ls", listParser, "ls"));
+    }
+
+    @Test
+    public void register_invalidWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_INVALID_COMMAND_WORD,
+                ""), () -> registry.register("", listParser));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list all", listParser));
+    }
+}
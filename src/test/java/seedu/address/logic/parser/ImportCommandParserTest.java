@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.person.Phone;
+
+public class ImportCommandParserTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,jobPosition,team,tags\n";
+    private static final String ALICE_ROW = "Alice Pauline,94351253,alice@example.com,"
+            + "\"123, Jurong West Ave 6, #08-111\",Software Engineer,Engineering,friends\n";
+    private static final String INVALID_ROW = "Amy Bee,not a phone,amy@example.com,Block 1,Intern,Engineering,\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_csvFile_returnsImportCommandWithCandidates() throws Exception {
+        Path filePath = testFolder.resolve("new candidates.csv");
+        Files.writeString(filePath, CSV_HEADER + INVALID_ROW + ALICE_ROW, StandardCharsets.UTF_8);
+
+        assertParseSuccess(parser, "  " + filePath + "  ", new ImportCommand(filePath, List.of(ALICE),
+                List.of("Candidate 1: " + Phone.MESSAGE_CONSTRAINTS)));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "/", String.format(ImportCommandParser.MESSAGE_INVALID_PATH, "/"));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertParseFailure(parser, filePath.toString(), String.format(ImportCommandParser.MESSAGE_READ_FAILURE,
+                filePath, ImportCommandParser.MESSAGE_FILE_NOT_FOUND));
+    }
+
+    @Test
+    public void parse_unreadableCsv_throwsParseException() throws Exception {
+        Path filePath = testFolder.resolve("candidates.csv");
+        Files.writeString(filePath, "", StandardCharsets.UTF_8);
+        assertParseFailure(parser, filePath.toString(), String.format(ImportCommandParser.MESSAGE_READ_FAILURE,
+                filePath, "The file is empty, expected a header row naming the columns."));
+    }
+}
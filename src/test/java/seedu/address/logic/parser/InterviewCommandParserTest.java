@@ -4,9 +4,13 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.InterviewCommand;
 import seedu.address.model.person.Duration;
 import seedu.address.model.person.StartTime;
@@ -21,6 +25,21 @@ public class InterviewCommandParserTest {
                 new InterviewCommand(INDEX_FIRST_PERSON, new StartTime("2025-04-01 10:00"), new Duration("30")));
     }
 
+    @Test
+    public void parse_indexRange_returnsInterviewCommand() {
+        assertParseSuccess(parser, "1-3 2025-04-01 10:00 30",
+                new InterviewCommand(IndexSelection.range(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                        new StartTime("2025-04-01 10:00"), new Duration("30")));
+    }
+
+    @Test
+    public void parse_indexListWithSpaces_returnsInterviewCommand() {
+        assertParseSuccess(parser, "1, 3 2025-04-01 10:00 30",
+                new InterviewCommand(IndexSelection.union(List.of(IndexSelection.of(INDEX_FIRST_PERSON),
+                        IndexSelection.of(INDEX_THIRD_PERSON))),
+                        new StartTime("2025-04-01 10:00"), new Duration("30")));
+    }
+
     @Test
     public void parse_extraSpaces_returnsInterviewCommand() {
         assertParseSuccess(parser, "  1   2025-04-01    10:15    45 ",
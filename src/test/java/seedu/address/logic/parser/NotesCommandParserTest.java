@@ -5,9 +5,14 @@ import static seedu.address.logic.Messages.MESSAGE_NOTES_CHARACTER_LIMIT_EXCEEDE
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.NotesCommand;
 import seedu.address.model.person.Notes;
 
@@ -24,6 +29,26 @@ public class NotesCommandParserTest {
         // with notes containing multiple spaces
         assertParseSuccess(parser, "1 Test   notes  with   spaces",
                 new NotesCommand(INDEX_FIRST_PERSON, new Notes("Test   notes  with   spaces")));
+
+        // for every candidate shown
+        assertParseSuccess(parser, "all Test notes",
+                new NotesCommand(IndexSelection.all(), new Notes("Test notes")));
+    }
+
+    @Test
+    public void parse_indexListAndRange_returnsNotesCommand() {
+        IndexSelection firstAndSecond = IndexSelection.union(List.of(
+                IndexSelection.of(INDEX_FIRST_PERSON), IndexSelection.of(INDEX_SECOND_PERSON)));
+        IndexSelection firstToThird = IndexSelection.range(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON);
+
+        // list of indexes, with and without whitespaces around the separator
+        assertParseSuccess(parser, "1,2 Test notes", new NotesCommand(firstAndSecond, new Notes("Test notes")));
+        assertParseSuccess(parser, "1, 2 Test notes", new NotesCommand(firstAndSecond, new Notes("Test notes")));
+        assertParseSuccess(parser, "1 , 2 2 notes", new NotesCommand(firstAndSecond, new Notes("2 notes")));
+
+        // range of indexes, with and without whitespaces around the separator
+        assertParseSuccess(parser, "1-3 Test notes", new NotesCommand(firstToThird, new Notes("Test notes")));
+        assertParseSuccess(parser, "1 - 3 Test notes", new NotesCommand(firstToThird, new Notes("Test notes")));
     }
 
     @Test
@@ -36,6 +61,8 @@ public class NotesCommandParserTest {
     public void parse_missingNotes_throwsParseException() {
         assertParseFailure(parser, "1",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1, 2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE));
     }
 
     @Test
@@ -51,6 +78,14 @@ public class NotesCommandParserTest {
         // non-numeric index
         assertParseFailure(parser, "abc Test notes",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE));
+
+        // non-numeric index in a list
+        assertParseFailure(parser, "1,abc Test notes",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE));
+
+        // range that ends before it starts
+        assertParseFailure(parser, "3-1 Test notes",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, NotesCommand.MESSAGE_USAGE));
     }
 
     @Test
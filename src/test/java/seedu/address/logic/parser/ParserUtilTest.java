@@ -1,18 +1,23 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +61,52 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1,a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1 2"));
+    }
+
+    @Test
+    public void parseIndexSelection_rangeEndsBeforeItStarts_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexSelection("5-2"));
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        // single index
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection("1"));
+
+        // ranges and indexes, with whitespaces
+        IndexSelection expectedSelection = IndexSelection.union(List.of(
+                IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(50)),
+                IndexSelection.of(Index.fromOneBased(72)), IndexSelection.of(Index.fromOneBased(90))));
+        assertEquals(expectedSelection, ParserUtil.parseIndexSelection(" 1-50, 72 ,90 "));
+
+        // every candidate displayed
+        assertEquals(IndexSelection.all(), ParserUtil.parseIndexSelection(" ALL "));
+    }
+
+    @Test
+    public void splitIndexSelection_noLeadingSelection_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.splitIndexSelection("a 1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.splitIndexSelection("1,a text"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.splitIndexSelection("1text"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.splitIndexSelection("alltext"));
+    }
+
+    @Test
+    public void splitIndexSelection_validInput_success() throws Exception {
+        assertArrayEquals(new String[] {"1", "some text"}, ParserUtil.splitIndexSelection(" 1 some text "));
+        assertArrayEquals(new String[] {"1, 3 - 5", "2 text"}, ParserUtil.splitIndexSelection("1, 3 - 5 2 text"));
+        assertArrayEquals(new String[] {"ALL", "text"}, ParserUtil.splitIndexSelection("ALL text"));
+        assertArrayEquals(new String[] {"1-2", ""}, ParserUtil.splitIndexSelection("1-2"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_nonPositiveDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(0, 1));
+    }
+
+    @Test
+    public void constructor_nonPositiveByteLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(1, 0));
+    }
+
+    @Test
+    public void commit_beyondMaxBytes_evictsOldestStatesButKeepsNewest() {
+        long aliceSize = AddressBookChange.personAdded(0, ALICE).estimateSize();
+        AddressBookHistory history = new AddressBookHistory(10, aliceSize);
+        addAndCommit(history, ALICE);
+        assertEquals(1, history.size());
+
+        addAndCommit(history, BENSON);
+        assertEquals(1, history.size());
+        assertEquals(new HistoryStatus(1, 0, 10,
+                AddressBookChange.personAdded(1, BENSON).estimateSize(), aliceSize), history.getStatus());
+
+        history.undo(addressBook);
+        assertFalse(history.canUndo());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+    }
+
+    @Test
+    public void getStatus_afterUndoAndNewCommit_tracksStatesAndBytes() {
+        AddressBookHistory history = new AddressBookHistory(10, Long.MAX_VALUE);
+        assertEquals(new HistoryStatus(0, 0, 10, 0, Long.MAX_VALUE), history.getStatus());
+
+        addAndCommit(history, ALICE);
+        addAndCommit(history, BENSON);
+        history.undo(addressBook);
+        long aliceSize = AddressBookChange.personAdded(0, ALICE).estimateSize();
+        long bensonSize = AddressBookChange.personAdded(1, BENSON).estimateSize();
+        assertEquals(new HistoryStatus(1, 1, 10, aliceSize + bensonSize, Long.MAX_VALUE), history.getStatus());
+
+        // committing drops the redoable state and its bytes
+        addAndCommit(history, CARL);
+        long carlSize = AddressBookChange.personAdded(1, CARL).estimateSize();
+        assertEquals(new HistoryStatus(2, 0, 10, aliceSize + carlSize, Long.MAX_VALUE), history.getStatus());
+    }
+
+    @Test
+    public void estimateSize_personsReplaced_chargesOnlyDroppedPersons() {
+        List<Person> persons = List.of(ALICE, BENSON);
+        long sortSize = AddressBookChange.personsReplaced(persons, List.of(BENSON, ALICE)).estimateSize();
+        long clearSize = AddressBookChange.personsReplaced(persons, List.of()).estimateSize();
+        assertEquals(sortSize + AddressBookChange.estimateSize(ALICE) + AddressBookChange.estimateSize(BENSON),
+                clearSize + 2 * AddressBookChange.REFERENCE_BYTES);
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_evictsOldestStates() {
+        AddressBookHistory history = new AddressBookHistory(2, Long.MAX_VALUE);
+        addAndCommit(history, ALICE);
+        addAndCommit(history, BENSON);
+        addAndCommit(history, CARL);
+        assertEquals(2, history.size());
+
+        history.undo(addressBook);
+        history.undo(addressBook);
+        assertFalse(history.canUndo());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+    }
+
+    @Test
+    public void undoRedo_removedPerson_restoresOriginalPosition() {
+        AddressBookHistory history = new AddressBookHistory(UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        AddressBook expected = new AddressBook(addressBook);
+
+        addressBook.removePerson(BENSON);
+        history.record(AddressBookChange.personRemoved(1, BENSON));
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(expected, addressBook);
+        assertTrue(history.canRedo());
+
+        history.redo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(), addressBook);
+    }
+
+    private void addAndCommit(AddressBookHistory history, Person person) {
+        history.record(AddressBookChange.personAdded(addressBook.getPersonList().size(), person));
+        addressBook.addPerson(person);
+        history.commit();
+    }
+}
@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -83,6 +84,40 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_everyModification_increases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_readsAndFailedModifications_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -6,17 +6,31 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.JobPositionContainsKeywordsPredicate;
+import seedu.address.model.person.MatchesAllPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsContainsKeywordsPredicate;
+import seedu.address.model.person.TeamContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +107,248 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undo_noCommittedState_throwsNoUndoableStateException() {
+        assertThrows(ModelManager.NoUndoableStateException.class, () -> modelManager.undo());
+    }
+
+    @Test
+    public void redo_noUndoneState_throwsNoRedoableStateException() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        assertThrows(ModelManager.NoRedoableStateException.class, () -> modelManager.redo());
+    }
+
+    @Test
+    public void undoRedo_personLevelChanges_restoresEachCommittedState() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook initialState = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.deletePerson(BENSON);
+        modelManager.commit();
+        AddressBook afterDelete = new AddressBook(modelManager.getAddressBook());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("edited").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.addPerson(BOB);
+        modelManager.commit();
+        AddressBook afterEditAndAdd = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undo();
+        assertEquals(afterDelete, modelManager.getAddressBook());
+        modelManager.undo();
+        assertEquals(initialState, modelManager.getAddressBook());
+
+        modelManager.redo();
+        assertEquals(afterDelete, modelManager.getAddressBook());
+        modelManager.redo();
+        assertEquals(afterEditAndAdd, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThemAlongWithLastCommit() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook initialState = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.addPerson(BOB);
+        modelManager.commit();
+        modelManager.sortFilteredPersonList(Comparator.comparing(person -> person.getName().fullName,
+                Comparator.reverseOrder()));
+
+        modelManager.undo();
+        assertEquals(initialState, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoRedo_addPersons_revertedAndRestoredAsOneState() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook initialState = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.addPersons(List.of(BOB, AMY));
+        modelManager.commit();
+        AddressBook afterAdd = new AddressBook(modelManager.getAddressBook());
+        assertEquals(List.of(BOB, AMY), modelManager.getFilteredPersonList()
+                .subList(initialState.getPersonList().size(), afterAdd.getPersonList().size()));
+
+        modelManager.undo();
+        assertEquals(initialState, modelManager.getAddressBook());
+        assertFalse(modelManager.hasPerson(AMY));
+        modelManager.redo();
+        assertEquals(afterAdd, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoRedo_deletePersons_restoredAtTheirPositionsAsOneState() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook initialState = new AddressBook(modelManager.getAddressBook());
+        List<Person> persons = initialState.getPersonList();
+
+        modelManager.deletePersons(List.of(persons.get(4), persons.get(0), persons.get(2)));
+        modelManager.commit();
+        AddressBook afterDelete = new AddressBook(modelManager.getAddressBook());
+        assertEquals(List.of(persons.get(1), persons.get(3), persons.get(5), persons.get(6)),
+                afterDelete.getPersonList());
+
+        modelManager.undo();
+        assertEquals(initialState, modelManager.getAddressBook());
+        modelManager.redo();
+        assertEquals(afterDelete, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoRedo_setPersons_revertedAndRestoredAsOneState() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook initialState = new AddressBook(modelManager.getAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withTags("shortlisted").build();
+        Person editedCarl = new PersonBuilder(CARL).withTags("shortlisted").build();
+
+        modelManager.setPersons(List.of(ALICE, CARL), List.of(editedAlice, editedCarl));
+        modelManager.commit();
+        AddressBook afterEdit = new AddressBook(modelManager.getAddressBook());
+        assertEquals(editedCarl, afterEdit.getPersonList().get(2));
+
+        modelManager.undo();
+        assertEquals(initialState, modelManager.getAddressBook());
+        modelManager.redo();
+        assertEquals(afterEdit, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undo_afterReset_restoresPreviousData() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commit();
+
+        modelManager.undo();
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_beyondUndoHistoryLimitInUserPrefs_evictsOldestStates() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        assertEquals(1, modelManager.getHistoryStatus().getHeldStates());
+
+        modelManager.undo();
+        assertThrows(ModelManager.NoUndoableStateException.class, () -> modelManager.undo());
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void constructor_nonPositiveUndoHistoryLimitsInUserPrefs_defaultLimitsUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(0);
+        userPrefs.setUndoHistoryMaxBytes(-1);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT, modelManager.getHistoryStatus().getMaxStates());
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES, modelManager.getHistoryStatus().getMaxBytes());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinedPredicate_testsOnlyShownPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Predicate<Person> friends = new TagsContainsKeywordsPredicate(List.of("friends"));
+        modelManager.updateFilteredPersonList(friends);
+        List<Person> shownFriends = new ArrayList<>(modelManager.getFilteredPersonList());
+
+        List<Person> testedPersons = new ArrayList<>();
+        Predicate<Person> recordingPredicate = person -> testedPersons.add(person);
+        modelManager.updateFilteredPersonList(new MatchesAllPredicate(List.of(recordingPredicate, friends)));
+        assertEquals(shownFriends, modelManager.getFilteredPersonList());
+        assertEquals(shownFriends, testedPersons);
+
+        // edits are tested on their own against the full predicate
+        testedPersons.clear();
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertTrue(modelManager.getFilteredPersonList().contains(editedCarl));
+        assertEquals(List.of(editedCarl), testedPersons);
+    }
+
+    @Test
+    public void updateFilteredPersonList_tagCriteria_testsOnlyTaggedPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> testedPersons = new ArrayList<>();
+        Predicate<Person> recordingPredicate = person -> testedPersons.add(person);
+        modelManager.updateFilteredPersonList(new MatchesAllPredicate(List.of(
+                new TagsContainsKeywordsPredicate(List.of("FRIEND")),
+                new TagsContainsKeywordsPredicate(List.of("owes")),
+                recordingPredicate)));
+
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(List.of(BENSON), testedPersons);
+    }
+
+    @Test
+    public void updateFilteredPersonList_teamAndJobPositionCriteria_testsOnlyMatchingPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> testedPersons = new ArrayList<>();
+        Predicate<Person> recordingPredicate = person -> testedPersons.add(person);
+        modelManager.updateFilteredPersonList(new MatchesAllPredicate(List.of(
+                new TeamContainsKeywordsPredicate(List.of("engineering")),
+                new JobPositionContainsKeywordsPredicate(List.of("software")),
+                recordingPredicate)));
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(List.of(ALICE), testedPersons);
+    }
+
+    @Test
+    public void updateFilteredPersonList_broaderPredicate_testsAllPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+
+        List<Person> testedPersons = new ArrayList<>();
+        modelManager.updateFilteredPersonList(person -> testedPersons.add(person));
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(getTypicalAddressBook().getPersonList(), testedPersons);
+    }
+
+    @Test
+    public void commit_noChanges_notAddedToHistory() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.commit();
+        assertEquals(1, modelManager.getHistoryStatus().getUndoableStates());
+
+        modelManager.undo();
+        modelManager.commit();
+        assertEquals(0, modelManager.getHistoryStatus().getUndoableStates());
+        assertEquals(1, modelManager.getHistoryStatus().getRedoableStates());
+    }
+
+    @Test
+    public void getAddressBookVersion_changesAndUndo_increases() throws Exception {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        long afterAdd = modelManager.getAddressBookVersion();
+        assertTrue(afterAdd > version);
+
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertEquals(afterAdd, modelManager.getAddressBookVersion());
+
+        modelManager.undo();
+        assertTrue(modelManager.getAddressBookVersion() > afterAdd);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableStates() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.undo();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+        assertThrows(ModelManager.NoRedoableStateException.class, () -> modelManager.redo());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
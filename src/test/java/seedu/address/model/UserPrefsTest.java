@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +22,30 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void equals_differentUndoHistoryLimits_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs otherPrefs = new UserPrefs();
+        assertEquals(userPrefs, otherPrefs);
+
+        otherPrefs.setUndoHistoryLimit(5);
+        assertNotEquals(userPrefs, otherPrefs);
+
+        otherPrefs = new UserPrefs(userPrefs);
+        otherPrefs.setUndoHistoryMaxBytes(1024);
+        assertNotEquals(userPrefs, otherPrefs);
+    }
+
+    @Test
+    public void resetData_addressBookNotPrettyPrinted_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertTrue(userPrefs.isAddressBookPrettyPrinted());
+
+        userPrefs.setAddressBookPrettyPrinted(false);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertFalse(copy.isAddressBookPrettyPrinted());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeIndexTest {
+
+    private final Person designer = new PersonBuilder().withEmail("a@example.com").withTeam("Design")
+            .withJobPosition("UI Designer").build();
+    private final Person engineer = new PersonBuilder().withEmail("b@example.com").withTeam("Engineering")
+            .withJobPosition("Software Engineer").build();
+    private final Person dataEngineer = new PersonBuilder().withEmail("c@example.com").withTeam("Data")
+            .withJobPosition("Data Engineer").build();
+
+    private final AttributeIndex attributeIndex = new AttributeIndex();
+
+    @Test
+    public void findSlots_substringKeywords_matchesLikePredicate() {
+        addAll();
+        assertEquals(Set.of(engineer, dataEngineer), findJobPositions("engineer"));
+        assertEquals(Set.of(designer, engineer), findTeams("gn", "engin"));
+        assertTrue(findTeams("marketing").isEmpty());
+    }
+
+    @Test
+    public void findSlots_andBitmaps_intersects() {
+        addAll();
+        BitSet slots = attributeIndex.findTeamSlots(List.of("data"));
+        slots.and(attributeIndex.findJobPositionSlots(List.of("engineer")));
+        assertEquals(Set.of(dataEngineer), attributeIndex.toPersons(slots));
+        assertTrue(attributeIndex.isInSlots(dataEngineer, slots));
+        assertFalse(attributeIndex.isInSlots(engineer, slots));
+    }
+
+    @Test
+    public void remove_thenAdd_reusesSlotsAndDropsUnusedValues() {
+        addAll();
+        attributeIndex.remove(designer);
+        assertTrue(findTeams("design").isEmpty());
+
+        Person marketer = new PersonBuilder().withEmail("d@example.com").withTeam("Marketing")
+                .withJobPosition("Marketing Lead").build();
+        attributeIndex.add(marketer);
+        assertEquals(Set.of(marketer), findTeams("market"));
+        assertEquals(Set.of(engineer, dataEngineer), findJobPositions("engineer"));
+
+        attributeIndex.clear();
+        assertTrue(findJobPositions("engineer").isEmpty());
+    }
+
+    private Set<Person> findTeams(String... keywords) {
+        return attributeIndex.toPersons(attributeIndex.findTeamSlots(List.of(keywords)));
+    }
+
+    private Set<Person> findJobPositions(String... keywords) {
+        return attributeIndex.toPersons(attributeIndex.findJobPositionSlots(List.of(keywords)));
+    }
+
+    private void addAll() {
+        attributeIndex.add(designer);
+        attributeIndex.add(engineer);
+        attributeIndex.add(dataEngineer);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchesAllPredicateTest {
+
+    private final Predicate<Person> pythonTag = new TagsContainsKeywordsPredicate(List.of("python"));
+    private final Predicate<Person> seniorTag = new TagsContainsKeywordsPredicate(List.of("senior"));
+    private final Predicate<Person> designTeam = new TeamContainsKeywordsPredicate(List.of("Design"));
+
+    @Test
+    public void test_allPredicatesMatch_returnsTrue() {
+        MatchesAllPredicate predicate = new MatchesAllPredicate(List.of(pythonTag, seniorTag));
+        assertTrue(predicate.test(new PersonBuilder().withTags("python", "senior").build()));
+
+        // No predicates
+        assertTrue(new MatchesAllPredicate(List.of()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void test_somePredicateDoesNotMatch_returnsFalse() {
+        MatchesAllPredicate predicate = new MatchesAllPredicate(List.of(pythonTag, seniorTag));
+        assertFalse(predicate.test(new PersonBuilder().withTags("python").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("java").build()));
+    }
+
+    @Test
+    public void isRefinementOf_narrowerCriteria_returnsTrue() {
+        MatchesAllPredicate pythonSenior = new MatchesAllPredicate(List.of(pythonTag, seniorTag));
+
+        // Single predicate that is one of the criteria
+        assertTrue(pythonSenior.isRefinementOf(pythonTag));
+
+        // Subset of the criteria
+        assertTrue(pythonSenior.isRefinementOf(new MatchesAllPredicate(List.of(seniorTag))));
+
+        // Criterion with a longer keyword
+        MatchesAllPredicate pythonista = new MatchesAllPredicate(
+                List.of(new TagsContainsKeywordsPredicate(List.of("pythonista")), designTeam));
+        assertTrue(pythonista.isRefinementOf(new MatchesAllPredicate(List.of(pythonTag))));
+    }
+
+    @Test
+    public void isRefinementOf_broaderOrUnrelatedCriteria_returnsFalse() {
+        MatchesAllPredicate python = new MatchesAllPredicate(List.of(pythonTag));
+        assertFalse(python.isRefinementOf(new MatchesAllPredicate(List.of(pythonTag, seniorTag))));
+        assertFalse(python.isRefinementOf(designTeam));
+        assertFalse(python.isRefinementOf(PREDICATE_SHOW_ALL_PERSONS));
+    }
+
+    @Test
+    public void equals() {
+        MatchesAllPredicate firstPredicate = new MatchesAllPredicate(List.of(pythonTag));
+        MatchesAllPredicate secondPredicate = new MatchesAllPredicate(List.of(pythonTag, seniorTag));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new MatchesAllPredicate(List.of(pythonTag))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Predicate<Person>> predicates = List.of(pythonTag);
+        MatchesAllPredicate predicate = new MatchesAllPredicate(predicates);
+
+        String expected = MatchesAllPredicate.class.getCanonicalName() + "{predicates=" + predicates + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -56,6 +56,12 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keywords matching only after Unicode case folding
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("STRASSE"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Anna Straße").build()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("ÉLODIE"));
+        assertTrue(predicate.test(new PersonBuilder().withName("élodie Martin").build()));
     }
 
     @Test
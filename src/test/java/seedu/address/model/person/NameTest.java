@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -50,6 +52,15 @@ public class NameTest {
         assertTrue(Name.isValidName("Dr. Jane Smith")); // with period at title
     }
 
+    @Test
+    public void getSearchKey() {
+        assertEquals("peter jack", new Name("Peter Jack").getSearchKey());
+
+        // already a search key -> same instance
+        String name = "peter jack";
+        assertSame(name, new Name(name).getSearchKey());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
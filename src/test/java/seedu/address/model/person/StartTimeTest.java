@@ -41,6 +41,12 @@ public class StartTimeTest {
         assertTrue(StartTime.isValidStartTime("2025-12-31 23:55"));
         assertFalse(StartTime.isValidStartTime("2025-04-01 10-15")); // wrong format
         assertFalse(StartTime.isValidStartTime("2025-04-01 10:03")); // invalid minute
+        assertFalse(StartTime.isValidStartTime("2025-02-29 10:15")); // not a leap year
+        assertTrue(StartTime.isValidStartTime("2024-02-29 10:15")); // leap year
+        assertFalse(StartTime.isValidStartTime("2025-04-31 10:15")); // day beyond end of month
+        assertFalse(StartTime.isValidStartTime("2025-13-01 10:15")); // invalid month
+        assertFalse(StartTime.isValidStartTime("2025-04-01 24:00")); // invalid hour
+        assertFalse(StartTime.isValidStartTime("0000-04-01 10:15")); // invalid year
         assertTrue(StartTime.isValidStartTime(null));
         assertTrue(StartTime.isValidStartTime(""));
     }
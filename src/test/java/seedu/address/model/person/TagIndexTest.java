@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final Person pythonSenior = new PersonBuilder().withEmail("a@example.com")
+            .withTags("Python", "senior").build();
+    private final Person pythonJunior = new PersonBuilder().withEmail("b@example.com")
+            .withTags("python3", "junior").build();
+    private final Person javaSenior = new PersonBuilder().withEmail("c@example.com")
+            .withTags("java", "Senior").build();
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void findPersonsMatchingAll_substringKeywords_matchesLikePredicate() {
+        addAll();
+        assertEquals(Set.of(pythonSenior, pythonJunior), tagIndex.findPersonsMatchingAll(List.of(List.of("pyth"))));
+        assertEquals(Set.of(pythonSenior, javaSenior), tagIndex.findPersonsMatchingAll(List.of(List.of("sen"))));
+    }
+
+    @Test
+    public void findPersonsMatchingAll_multipleCriteria_intersects() {
+        addAll();
+        assertEquals(Set.of(pythonSenior),
+                tagIndex.findPersonsMatchingAll(List.of(List.of("python"), List.of("senior"))));
+
+        // keywords within a criterion are alternatives
+        assertEquals(Set.of(pythonSenior, javaSenior),
+                tagIndex.findPersonsMatchingAll(List.of(List.of("java", "python"), List.of("senior"))));
+    }
+
+    @Test
+    public void findPersonsMatchingAll_noMatch_returnsEmptySet() {
+        addAll();
+        assertTrue(tagIndex.findPersonsMatchingAll(List.of(List.of("rust"))).isEmpty());
+        assertTrue(tagIndex.findPersonsMatchingAll(List.of(List.of("java"), List.of("junior"))).isEmpty());
+        assertTrue(tagIndex.findPersonsMatchingAll(List.of(List.of())).isEmpty());
+        assertTrue(tagIndex.findPersonsMatchingAll(List.of()).isEmpty());
+    }
+
+    @Test
+    public void findPersonsMatchingAll_personRemoved_notFound() {
+        addAll();
+        tagIndex.remove(pythonSenior);
+        assertEquals(Set.of(pythonJunior), tagIndex.findPersonsMatchingAll(List.of(List.of("python"))));
+        assertTrue(tagIndex.findPersonsMatchingAll(List.of(List.of("python"), List.of("senior"))).isEmpty());
+
+        tagIndex.clear();
+        assertTrue(tagIndex.findPersonsMatchingAll(List.of(List.of("java"))).isEmpty());
+    }
+
+    private void addAll() {
+        tagIndex.add(pythonSenior);
+        tagIndex.add(pythonJunior);
+        tagIndex.add(javaSenior);
+    }
+}
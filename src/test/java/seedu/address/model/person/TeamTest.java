@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TeamTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Team(null));
+    }
+
+    @Test
+    public void constructor_invalidTeam_throwsIllegalArgumentExceptionNamingInvalidCharacters() {
+        assertThrows(IllegalArgumentException.class, "Found invalid character(s): '*' '!'\n\n"
+                + Team.MESSAGE_CONSTRAINTS, () -> new Team("Data*Science!"));
+    }
+
+    @Test
+    public void isValidTeam() {
+        // null team
+        assertThrows(NullPointerException.class, () -> Team.isValidTeam(null));
+
+        // invalid team
+        assertFalse(Team.isValidTeam("")); // empty string
+        assertFalse(Team.isValidTeam(" Engineering")); // starts with a space
+        assertFalse(Team.isValidTeam("&Design")); // starts with a special character
+        assertFalse(Team.isValidTeam("Data_Science")); // contains an underscore
+
+        // valid team
+        assertTrue(Team.isValidTeam("Engineering"));
+        assertTrue(Team.isValidTeam("R&D (Asia), Singapore/Tokyo - Team +1 @HQ.")); // every special character
+        assertTrue(Team.isValidTeam("\u00c9quipe 2")); // non-ASCII letters
+    }
+}
@@ -8,10 +8,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +50,28 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentEmailCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksNewIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +83,44 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB, CARL));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonExceptionAndAddsNone() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatesAmongPersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_atIndexes_insertedAtThoseIndexes() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.addAll(new int[] {0, 2}, List.of(ALICE, CARL));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_atIndexesPersonAlreadyInList_throwsDuplicatePersonExceptionAndAddsNone() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(new int[] {0, 1},
+                List.of(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +190,61 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_existingPersons_removesOnlyThem() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        uniquePersonList.removeAll(List.of(CARL, ALICE));
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndRemovesNone() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setAll_editedPersons_replacedInPlace() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setAll(List.of(CARL, ALICE), List.of(editedCarl, editedAlice));
+        assertEquals(List.of(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAll_editedPersonsSwapIdentities_success() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        uniquePersonList.setAll(List.of(ALICE, BOB), List.of(BOB, ALICE));
+        assertEquals(List.of(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAll_editedPersonHasIdentityOfOtherPerson_throwsDuplicatePersonExceptionAndReplacesNone() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+
+        // same identity as a person that is not replaced
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setAll(List.of(ALICE), List.of(BOB)));
+
+        // same identity as another edited person
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setAll(List.of(ALICE, CARL),
+                List.of(editedAlice, editedAlice)));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAll_targetDoesNotExist_throwsPersonNotFoundExceptionAndReplacesNone() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setAll(List.of(ALICE, CARL),
+                List.of(ALICE, CARL)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +272,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +282,83 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsAllCollidingRows() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, upperCaseAlice, BOB);
+        String aliceEmail = ALICE.getEmail().value.toLowerCase();
+        String bobEmail = BOB.getEmail().value.toLowerCase();
+        String expectedMessage = new DuplicatePersonException(
+                List.of(aliceEmail + " (rows 1, 3)", bobEmail + " (rows 2, 4)")).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findPersonsMatchingAll_afterMutations_tracksTags() {
+        TagsContainsKeywordsPredicate husband = new TagsContainsKeywordsPredicate(List.of(VALID_TAG_HUSBAND));
+        TagsContainsKeywordsPredicate friend = new TagsContainsKeywordsPredicate(List.of("friend"));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE, BOB), uniquePersonList.findPersonsMatchingAll(List.of(friend)));
+        assertEquals(Set.of(BOB), uniquePersonList.findPersonsMatchingAll(List.of(friend, husband)));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice, BOB), uniquePersonList.findPersonsMatchingAll(List.of(husband)));
+        assertEquals(Set.of(BOB), uniquePersonList.findPersonsMatchingAll(List.of(friend)));
+
+        // removal by an equal but distinct instance
+        uniquePersonList.remove(new PersonBuilder(BOB).build());
+        assertEquals(Set.of(editedAlice), uniquePersonList.findPersonsMatchingAll(List.of(husband)));
+
+        uniquePersonList.setPersons(List.of(ALICE));
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersonsMatchingAll(List.of(friend)));
+        assertTrue(uniquePersonList.findPersonsMatchingAll(List.of(husband)).isEmpty());
+    }
+
+    @Test
+    public void findPersonsMatchingAll_teamAndJobPositionCriteria_intersectsWithTags() {
+        Person designer = new PersonBuilder().withEmail("designer@example.com").withTeam("Design")
+                .withJobPosition("UI Designer").withTags("friends").build();
+        Person engineer = new PersonBuilder().withEmail("engineer@example.com").withTeam("Engineering")
+                .withJobPosition("Software Engineer").build();
+        uniquePersonList.setPersons(List.of(designer, engineer));
+
+        Predicate<Person> teamDesign = new TeamContainsKeywordsPredicate(List.of("design"));
+        Predicate<Person> jobEngineer = new JobPositionContainsKeywordsPredicate(List.of("ENGINEER"));
+        Predicate<Person> friends = new TagsContainsKeywordsPredicate(List.of("friends"));
+        assertEquals(Set.of(designer), uniquePersonList.findPersonsMatchingAll(List.of(teamDesign)));
+        assertEquals(Set.of(engineer), uniquePersonList.findPersonsMatchingAll(List.of(jobEngineer)));
+        assertTrue(uniquePersonList.findPersonsMatchingAll(List.of(teamDesign, jobEngineer)).isEmpty());
+        assertEquals(Set.of(designer), uniquePersonList.findPersonsMatchingAll(List.of(friends, teamDesign)));
+        assertTrue(uniquePersonList.findPersonsMatchingAll(List.of(friends, jobEngineer)).isEmpty());
+
+        Person movedEngineer = new PersonBuilder(engineer).withTeam("Design").build();
+        uniquePersonList.setPerson(engineer, movedEngineer);
+        assertEquals(Set.of(designer, movedEngineer), uniquePersonList.findPersonsMatchingAll(List.of(teamDesign)));
+
+        uniquePersonList.remove(designer);
+        assertEquals(Set.of(movedEngineer), uniquePersonList.findPersonsMatchingAll(List.of(teamDesign)));
+    }
+
+    @Test
+    public void findPersonsMatchingAll_invalidCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.findPersonsMatchingAll(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.findPersonsMatchingAll(
+                List.of(new NameContainsKeywordsPredicate(List.of("Alice")))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final int COUNT = 2000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generatePersons_sameSeed_sameCandidates() {
+        assertEquals(new SyntheticDataGenerator(1).generatePersons(COUNT),
+                new SyntheticDataGenerator(1).generatePersons(COUNT));
+    }
+
+    @Test
+    public void generatePersons_differentSeed_differentCandidates() {
+        assertNotEquals(new SyntheticDataGenerator(1).generatePersons(COUNT),
+                new SyntheticDataGenerator(2).generatePersons(COUNT));
+    }
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_COUNT, ()
+            -> new SyntheticDataGenerator(1).generatePersons(-1));
+    }
+
+    @Test
+    public void generateAddressBook_noDuplicateCandidates() {
+        // AddressBook rejects duplicates, so every generated candidate must be distinct
+        AddressBook addressBook = new SyntheticDataGenerator(1).generateAddressBook(COUNT);
+        assertEquals(COUNT, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void generateAddressBook_survivesStorageRoundTrip() throws Exception {
+        AddressBook addressBook = new SyntheticDataGenerator(1).generateAddressBook(COUNT);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("synthetic.json"));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void generatePersons_mixesOptionalFields() {
+        List<Person> persons = new SyntheticDataGenerator(1).generatePersons(COUNT);
+        assertTrue(persons.stream().anyMatch(person -> person.getNotes().value.isEmpty()));
+        assertTrue(persons.stream().anyMatch(person -> !person.getNotes().value.isEmpty()));
+        assertTrue(persons.stream().anyMatch(person -> person.getStartTime().value.isEmpty()));
+        assertTrue(persons.stream().anyMatch(person -> !person.getStartTime().value.isEmpty()));
+        assertTrue(persons.stream().anyMatch(person -> person.getTags().isEmpty()));
+        assertFalse(persons.stream().allMatch(person -> person.getTags().size() == persons.get(0).getTags().size()));
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "recruitintel.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "recruitintel.json")));
+        assertEquals(Paths.get("data", "recruitintel.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "recruitintel")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, testFolder.resolve("none.json"));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_syntheticCandidates_smallerThanCompactJson() throws Exception {
+        AddressBook original = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .generateAddressBook(1000);
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+        storage.saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_importedFromJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Path filePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(filePath));
+
+        // Once saved, the binary file is read instead
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFileAndJson_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"),
+                testFolder.resolve("addressBook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryAddressBookReader.VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_corruptedNotes_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(withNotes(ALICE, "Strong candidate"));
+        storage.saveAddressBook(original);
+
+        // A line break is not allowed in notes
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        Files.write(filePath, content.replace("Strong candidate", "Strong\ncandidate")
+                .getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_versionOneFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Person person = withNotes(ALICE, "Strong candidate");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookReader.MAGIC);
+            out.writeByte(1);
+            out.writeByte(3);
+            writeString(out, person.getJobPosition().value);
+            writeString(out, person.getTeam().value);
+            writeString(out, person.getTags().iterator().next().tagName);
+            out.writeByte(1);
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            out.writeByte(0);
+            out.writeByte(1);
+            out.writeByte(1);
+            out.writeByte(2);
+            writeString(out, person.getNotes().value);
+            writeString(out, person.getStartTime().value);
+            writeString(out, person.getDuration().value);
+        }
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(person);
+        assertEquals(expected, new AddressBook(new BinaryAddressBookStorage(filePath, filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    private static Person withNotes(Person person, String notes) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getJobPosition(), person.getTeam(), person.getTags(), new Notes(notes),
+                person.getStartTime(), person.getDuration());
+    }
+
+    /**
+     * Writes {@code value} as a string of the binary format, assuming it is shorter than 128 bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CandidateFileReader.Candidates;
+import seedu.address.testutil.PersonBuilder;
+
+public class CandidateFileReaderTest {
+
+    private static final String HEADER = "name,phone,email,address,jobPosition,team,tags";
+    private static final String ALICE_ROW = "Alice Pauline,94351253,alice@example.com,"
+            + "\"123, Jurong West Ave 6, #08-111\",Software Engineer,Engineering,friends";
+    private static final String BENSON_ROW = "Benson Meier,98765432,johnd@example.com,"
+            + "\"311, Clementi Ave 2, #02-25\",Product Manager,Product,owesMoney; friends";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_validCsv_allCandidatesInOrder() throws Exception {
+        Candidates candidates = readCsv(HEADER + "\r\n" + ALICE_ROW + "\r\n\r\n" + BENSON_ROW + "\r\n");
+        assertEquals(List.of(ALICE, BENSON), candidates.getPersons());
+        assertTrue(candidates.getRejections().isEmpty());
+    }
+
+    @Test
+    public void read_csvWithByteOrderMark_success() throws Exception {
+        Candidates candidates = readCsv("\uFEFF" + HEADER + "\r\n" + ALICE_ROW + "\r\n");
+        assertEquals(List.of(ALICE), candidates.getPersons());
+        assertTrue(candidates.getRejections().isEmpty());
+    }
+
+    @Test
+    public void read_csvColumnsInAnyOrderWithOptionalFields_success() throws Exception {
+        Candidates candidates = readCsv("email,name,team,jobPosition,address,phone,notes,startTime,duration\n"
+                + "amy@example.com,Amy Bee,Engineering,Intern,\"Block 1, \"\"East\"\"\",85355255,"
+                + "\"Strong, keen\",,\n");
+        Person expected = new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@example.com")
+                .withAddress("Block 1, \"East\"").withJobPosition("Intern").withTeam("Engineering").build();
+        assertEquals(1, candidates.getPersons().size());
+        Person imported = candidates.getPersons().get(0);
+        assertEquals(expected, new PersonBuilder(imported).build());
+        assertEquals(new Notes("Strong, keen"), imported.getNotes());
+    }
+
+    @Test
+    public void read_invalidCsvRows_skippedAndReportedByPosition() throws Exception {
+        Candidates candidates = readCsv(HEADER + "\n"
+                + "R@chel,94351253,rachel@example.com,Block 1,Intern,Engineering,\n"
+                + ALICE_ROW + "\n"
+                + "Too few,values\n"
+                + ALICE_ROW + "\n"
+                + BENSON_ROW + "\n");
+
+        assertEquals(List.of(ALICE, BENSON), candidates.getPersons());
+        assertEquals(List.of(
+                String.format(PersonListConverter.MESSAGE_INVALID_PERSON, 1, Name.MESSAGE_CONSTRAINTS),
+                String.format(PersonListConverter.MESSAGE_INVALID_PERSON, 3,
+                        String.format(CandidateFileReader.MESSAGE_WRONG_VALUE_COUNT, 7, 2)),
+                String.format(PersonListConverter.MESSAGE_INVALID_PERSON, 4,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON)),
+                candidates.getRejections());
+    }
+
+    @Test
+    public void read_csvWithUnknownColumn_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readCsv(HEADER + ",salary\n"));
+    }
+
+    @Test
+    public void read_csvMissingRequiredColumn_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readCsv("name,phone,email,address,team\n"));
+    }
+
+    @Test
+    public void read_csvWithRepeatedColumn_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readCsv(HEADER + ",name\n"));
+    }
+
+    @Test
+    public void read_emptyCsv_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readCsv(""));
+    }
+
+    @Test
+    public void read_jsonDataFile_allCandidatesInOrder() throws Exception {
+        Path filePath = testFolder.resolve("candidates.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(getTypicalAddressBook()), filePath);
+
+        Candidates candidates = CandidateFileReader.read(filePath);
+        assertEquals(getTypicalAddressBook().getPersonList(), candidates.getPersons());
+        assertTrue(candidates.getRejections().isEmpty());
+    }
+
+    @Test
+    public void read_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> CandidateFileReader.read(testFolder.resolve("missing.csv")));
+    }
+
+    @Test
+    public void readCsvRecord_quotedValues_unquoted() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("a,\"b,\"\"c\"\"\nd\",,e\nf"));
+        assertEquals(List.of("a", "b,\"c\"\nd", "", "e"), CandidateFileReader.readCsvRecord(reader));
+        assertEquals(List.of("f"), CandidateFileReader.readCsvRecord(reader));
+        assertNull(CandidateFileReader.readCsvRecord(reader));
+    }
+
+    @Test
+    public void readCsvRecord_unterminatedQuote_throwsIllegalValueException() {
+        BufferedReader reader = new BufferedReader(new StringReader("a,\"b\n"));
+        assertThrows(IllegalValueException.class,
+                CandidateFileReader.MESSAGE_UNTERMINATED_QUOTE, () -> CandidateFileReader.readCsvRecord(reader));
+    }
+
+    private Candidates readCsv(String content) throws IOException, DataLoadingException {
+        Path filePath = testFolder.resolve("candidates.csv");
+        Files.writeString(filePath, content, StandardCharsets.UTF_8);
+        return CandidateFileReader.read(filePath);
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("addressBook.json");
+        assertThrows(IllegalArgumentException.class, JournaledAddressBookStorage.MESSAGE_INVALID_COMPACTION_THRESHOLD,
+            () -> new JournaledAddressBookStorage(filePath, true, 0));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(0, IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        // The header, then one record per change
+        assertEquals(5, Files.readAllLines(AddressBookJournal.getJournalPath(filePath)).size());
+        assertEquals(Optional.of(addressBook), new JournaledAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath, false);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        readBack.removePerson(HOON);
+        restartedStorage.saveAddressBook(readBack);
+
+        assertEquals(3, Files.readAllLines(AddressBookJournal.getJournalPath(filePath)).size());
+        assertEquals(Optional.of(getTypicalAddressBook()),
+                new JournaledAddressBookStorage(filePath, false).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_rewritesFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(AddressBookJournal.getJournalPath(filePath)).size());
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+        assertEquals(Optional.of(addressBook), new JournaledAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndCompactedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = AddressBookJournal.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalPath, "{\"op\":\"add\",\"ind", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath, true);
+        assertEquals(Optional.of(addressBook), restartedStorage.readAddressBook());
+
+        addressBook.addPerson(IDA);
+        restartedStorage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(Optional.of(addressBook), new JournaledAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = AddressBookJournal.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalPath, "not a record\n", StandardOpenOption.APPEND);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherGeneration_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // Rewriting the file without a generation makes the journal stale
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.of(getTypicalAddressBook()),
+                new JournaledAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeFileReplaced_recoveredFromBackupWithJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // A compaction that crashed after backing up the file but before moving the new file into place,
+        // with the file then lost
+        Files.copy(filePath, FileUtil.getBackupPath(filePath));
+        Files.writeString(filePath.resolveSibling(filePath.getFileName() + FileUtil.TEMP_FILE_EXTENSION), "{");
+        Files.delete(filePath);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath, true);
+        assertEquals(Optional.of(addressBook), restartedStorage.readAddressBook());
+
+        addressBook.addPerson(IDA);
+        restartedStorage.saveAddressBook(addressBook);
+        assertEquals(Optional.of(addressBook), new JournaledAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonStorage_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(Optional.of(addressBook), new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writtenInFull() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true);
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(AddressBookJournal.getJournalPath(otherFilePath)));
+        assertEquals(getTypicalAddressBook(), JsonAddressBookReader.read(otherFilePath));
+    }
+
+    @Test
+    public void diff_singleEdit_oneRecord() {
+        List<Person> saved = getTypicalAddressBook().getPersonList();
+        List<Person> current = new ArrayList<>(saved);
+        current.set(2, new PersonBuilder(current.get(2)).withPhone("91234567").build());
+
+        assertEquals(1, JournaledAddressBookStorage.diff(saved, current).get().size());
+        assertTrue(JournaledAddressBookStorage.diff(saved, saved).get().isEmpty());
+    }
+
+    @Test
+    public void diff_tooManyChanges_empty() {
+        List<Person> saved = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .generatePersons(JournaledAddressBookStorage.MAX_RECORDS_PER_SAVE);
+        List<Person> current = new ArrayList<>(saved);
+        Collections.reverse(current);
+
+        assertTrue(JournaledAddressBookStorage.diff(saved, current).isEmpty());
+    }
+}
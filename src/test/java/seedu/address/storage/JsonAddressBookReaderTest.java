@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBook = JsonAddressBookReader.read(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        AddressBook addressBook = JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve("unknownFieldsAddressBook.json"));
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+    }
+
+    @Test
+    public void read_sameAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+        assertEquals(JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType(),
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_personsWithSameTeamAndJobPosition_shareInstances() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = new AddressBookBuilder()
+                .withPerson(new PersonBuilder().withEmail("first@example.com").build())
+                .withPerson(new PersonBuilder().withEmail("second@example.com").build())
+                .build();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath);
+        Person first = addressBook.getPersonList().get(0);
+        Person second = addressBook.getPersonList().get(1);
+        assertSame(first.getTeam(), second.getTeam());
+        assertSame(first.getJobPosition(), second.getJobPosition());
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        String expectedMessage = String.format(PersonListConverter.MESSAGE_INVALID_PERSONS, 1,
+                String.format(PersonListConverter.MESSAGE_INVALID_PERSON, 2,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAddressBookReader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_missingPersons_throwsIOException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(
+                TEST_DATA_FOLDER.resolve("missingPersonsAddressBook.json")));
+    }
+
+    @Test
+    public void read_personsNotList_throwsIOException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(
+                TEST_DATA_FOLDER.resolve("personsNotListAddressBook.json")));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIOException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(
+                Paths.get("src", "test", "data", "JsonAddressBookStorageTest", "notJsonFormatAddressBook.json")));
+    }
+}
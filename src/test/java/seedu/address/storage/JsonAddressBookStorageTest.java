@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +89,48 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptedFileWithBackup_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(changed);
+
+        // Simulates a write cut short on a system without atomic replacement
+        String content = FileUtil.readFromFile(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        // The file itself is restored
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackup_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        // Simulates a crash after the file was moved to the backup, but before the new file replaced it
+        Files.delete(filePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileAndBackup_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "not json");
+        Files.writeString(FileUtil.getBackupPath(filePath), "not json either");
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyPrinted_sameAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_notPrettyPrinted_compactAndReadable() throws Exception {
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        Path compactFilePath = testFolder.resolve("compact.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.write(addressBook, prettyFilePath, true);
+        JsonAddressBookWriter.write(addressBook, compactFilePath, false);
+
+        String compact = FileUtil.readFromFile(compactFilePath);
+        assertFalse(compact.contains("\n"));
+        assertTrue(compact.length() < FileUtil.readFromFile(prettyFilePath).length());
+        assertEquals(addressBook, JsonAddressBookReader.read(compactFilePath));
+    }
+
+    @Test
+    public void write_existingFile_replacesContent() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, true);
+
+        AddressBook smaller = new AddressBookBuilder().withPerson(ALICE).build();
+        JsonAddressBookWriter.write(smaller, filePath, true);
+        assertEquals(smaller, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_emptyAddressBook_readsBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(new AddressBook(), filePath, false);
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+}
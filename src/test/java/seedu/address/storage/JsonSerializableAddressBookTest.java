@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -29,6 +41,21 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_personsWithSameTeamAndJobPosition_shareInstances() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder().withEmail("first@example.com").build())
+                .withPerson(new PersonBuilder().withEmail("second@example.com").build())
+                .build();
+        AddressBook converted = new JsonSerializableAddressBook(addressBook).toModelType();
+
+        Person first = converted.getPersonList().get(0);
+        Person second = converted.getPersonList().get(1);
+        assertEquals(addressBook, converted);
+        assertSame(first.getTeam(), second.getTeam());
+        assertSame(first.getJobPosition(), second.getJobPosition());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -40,8 +67,53 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(PersonListConverter.MESSAGE_INVALID_PERSONS, 1,
+                String.format(PersonListConverter.MESSAGE_INVALID_PERSON, 2,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_moreThanOneBatch_orderPreserved() throws Exception {
+        AddressBook original = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .generateAddressBook(PersonListConverter.BATCH_SIZE * 2 + 1);
+        assertEquals(original, new JsonSerializableAddressBook(original).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidPersonsInSeveralBatches_allReportedWithPositions() {
+        AddressBook original = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .generateAddressBook(PersonListConverter.BATCH_SIZE + 10);
+        List<JsonAdaptedPerson> persons = original.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toCollection(ArrayList::new));
+        Person third = original.getPersonList().get(2);
+        persons.set(2, new JsonAdaptedPerson(third.getName().fullName, third.getPhone().value, "invalid@email!3e",
+                third.getAddress().value, third.getJobPosition().value, third.getTeam().value, null,
+                new ArrayList<>(), null, null));
+        persons.add(new JsonAdaptedPerson(original.getPersonList().get(0)));
+
+        String expectedMessage = String.format(PersonListConverter.MESSAGE_INVALID_PERSONS, 2,
+                String.format(PersonListConverter.MESSAGE_INVALID_PERSON, 3, Email.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(PersonListConverter.MESSAGE_INVALID_PERSON, persons.size(),
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons);
+        assertThrows(IllegalValueException.class, expectedMessage, addressBook::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_firstReportedAndAllCounted() {
+        int duplicateCount = PersonListConverter.MAX_REPORTED_ERRORS + 5;
+        JsonAdaptedPerson person = new JsonAdaptedPerson(ALICE);
+        List<JsonAdaptedPerson> persons = new ArrayList<>(Collections.nCopies(duplicateCount + 1, person));
+
+        String reported = IntStream.rangeClosed(2, PersonListConverter.MAX_REPORTED_ERRORS + 1)
+                .mapToObj(position -> String.format(PersonListConverter.MESSAGE_INVALID_PERSON, position,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON))
+                .collect(Collectors.joining("\n"));
+        String expectedMessage = String.format(PersonListConverter.MESSAGE_INVALID_PERSONS, duplicateCount, reported)
+                + String.format(PersonListConverter.MESSAGE_MORE_INVALID_PERSONS, 5);
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons);
+        assertThrows(IllegalValueException.class, expectedMessage, addressBook::toModelType);
     }
 
 }
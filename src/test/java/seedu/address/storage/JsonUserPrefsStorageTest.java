@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -70,6 +71,16 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_nonPositiveUndoHistoryLimits_otherValuesKept() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setUndoHistoryLimit(0);
+        expected.setUndoHistoryMaxBytes(-1);
+        UserPrefs actual = readUserPrefs("NonPositiveUndoLimitsUserPrefs.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
@@ -120,4 +131,18 @@ public class JsonUserPrefsStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void readUserPrefs_corruptedFileWithBackup_recoveredFromBackup() throws DataLoadingException, IOException {
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+        UserPrefs original = new UserPrefs();
+        original.setUndoHistoryLimit(5);
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        jsonUserPrefsStorage.saveUserPrefs(new UserPrefs());
+        Files.writeString(prefsFilePath, "{ \"undoHistoryLimit\" :");
+
+        assertEquals(5, jsonUserPrefsStorage.readUserPrefs().get().getUndoHistoryLimit());
+        assertEquals(5, jsonUserPrefsStorage.readUserPrefs().get().getUndoHistoryLimit());
+    }
+
 }